@@ -0,0 +1,112 @@
+package com.taskmanagement.api.benchmark;
+
+import com.taskmanagement.api.TaskManagementApiApplication;
+import com.taskmanagement.api.support.TestPostgres;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * The application the database benchmarks call, started with the test profile
+ * against a seeded database on the test PostgreSQL server. One user owns
+ * {@link #TASKS} tasks; the database is seeded on first use and kept for later runs.
+ */
+final class BenchmarkApplication {
+
+    static final int TASKS = 200_000;
+
+    private static final String DATABASE = "task_benchmark";
+    private static final String USERNAME = "bench_user";
+
+    private BenchmarkApplication() {
+    }
+
+    /**
+     * Starts the application with {@code properties} (as {@code key=value}) on top of
+     * the test profile.
+     */
+    static ConfigurableApplicationContext start(String... properties) {
+        String url = TestPostgres.jdbcUrl(DATABASE);
+        try {
+            seed(url);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not seed the benchmark database", e);
+        }
+        // As command-line arguments; builder properties are defaults the YAML files override
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=" + url,
+                "--spring.datasource.username=" + TestPostgres.username(),
+                "--spring.datasource.password=" + TestPostgres.password(),
+                "--server.port=0",
+                "--logging.level.root=WARN"));
+        for (String property : properties) {
+            args.add("--" + property);
+        }
+        return new SpringApplicationBuilder(TaskManagementApiApplication.class)
+                .profiles("test")
+                .run(args.toArray(String[]::new));
+    }
+
+    static UUID userId(ConfigurableApplicationContext context) {
+        return context.getBean(JdbcTemplate.class)
+                .queryForObject("SELECT id FROM users WHERE username = ?", UUID.class, USERNAME);
+    }
+
+    // Rows go in before V2 and later build their indexes, as in TaskQueryPlanTest. Titles
+    // cycle through eight words (a common search term matches 1 task in 8); every
+    // description names a ticket number of its own (a rare term matches one task).
+    private static void seed(String url) throws SQLException {
+        flyway(url, "1.3").migrate();
+        try (Connection connection = DriverManager.getConnection(url, TestPostgres.username(), TestPostgres.password());
+             Statement statement = connection.createStatement()) {
+            ResultSet seeded = statement.executeQuery("SELECT EXISTS (SELECT 1 FROM tasks)");
+            seeded.next();
+            if (!seeded.getBoolean(1)) {
+                statement.execute("""
+                        INSERT INTO users (id, username, email, first_name, last_name, password,
+                                           is_active, email_verified, created_at, updated_at)
+                        VALUES (gen_random_uuid(), '%s', '%<s@example.com', 'Bench', 'User', 'x', true, true, now(), now())
+                        """.formatted(USERNAME));
+                statement.execute("""
+                        INSERT INTO tasks (id, title, description, status, priority, user_id, is_deleted,
+                                           created_at, updated_at)
+                        SELECT gen_random_uuid(),
+                               'Task ' || k || ' ' || (ARRAY['report', 'deploy', 'review', 'invoice',
+                                                             'meeting', 'budget', 'release', 'backup'])[1 + k %% 8],
+                               'Follow-up for ticket ' || k || ' from the weekly review',
+                               (ARRAY['TODO', 'IN_PROGRESS', 'DONE', 'CANCELLED'])[1 + k %% 4],
+                               (ARRAY['LOW', 'MEDIUM', 'HIGH', 'CRITICAL'])[1 + (k / 4) %% 4],
+                               u.id, false,
+                               now() - k * interval '1 minute', now()
+                        FROM users u CROSS JOIN generate_series(1, %d) k
+                        WHERE u.username = '%s'
+                        """.formatted(TASKS, USERNAME));
+            }
+        }
+        flyway(url, "latest").migrate();
+        try (Connection connection = DriverManager.getConnection(url, TestPostgres.username(), TestPostgres.password());
+             Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE");
+        }
+    }
+
+    private static Flyway flyway(String url, String target) {
+        return Flyway.configure()
+                .dataSource(url, TestPostgres.username(), TestPostgres.password())
+                .locations("classpath:db/migration")
+                .target(target)
+                .configuration(Map.of("flyway.postgresql.transactional.lock", "false"))
+                .load();
+    }
+}
@@ -0,0 +1,81 @@
+package com.taskmanagement.api.benchmark;
+
+import com.taskmanagement.api.entity.OutboxEmail;
+import com.taskmanagement.api.service.EmailRenderer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Welcome emails rendered into MIME messages by {@link EmailRenderer}, with the
+ * Thymeleaf template cache on and off: one at a time, and as an outbox batch of
+ * {@link #BATCH} rendered in parallel. Scores are messages per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailRenderBenchmark {
+
+    // app.mail.outbox.batch-size
+    private static final int BATCH = 50;
+
+    @Param({"true", "false"})
+    public boolean cache;
+
+    private EmailRenderer renderer;
+    private List<OutboxEmail> one;
+    private List<OutboxEmail> batch;
+
+    @Setup
+    public void setUp() {
+        // As spring.thymeleaf configures it: classpath:/templates/*.html
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        resolver.setCacheable(cache);
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+
+        renderer = new EmailRenderer(new JavaMailSenderImpl(), templateEngine, new SimpleMeterRegistry(),
+                "noreply@example.com");
+        renderer.warmUp();
+
+        OutboxEmail email = OutboxEmail.builder()
+                .recipient("user@example.com")
+                .subject("Welcome to Task Management System!")
+                .template("email/welcome")
+                .variables(Map.of("userName", "Bench", "loginUrl", "http://localhost:3000/auth/login"))
+                .build();
+        one = List.of(email);
+        batch = Collections.nCopies(BATCH, email);
+
+        String error = renderer.renderAll(one).get(0).error();
+        if (error != null) {
+            throw new IllegalStateException(error);
+        }
+    }
+
+    @Benchmark
+    public List<EmailRenderer.Rendered> renderOne() {
+        return renderer.renderAll(one);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public List<EmailRenderer.Rendered> renderBatch() {
+        return renderer.renderAll(batch);
+    }
+}
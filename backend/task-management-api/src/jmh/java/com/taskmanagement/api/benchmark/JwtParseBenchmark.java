@@ -0,0 +1,55 @@
+package com.taskmanagement.api.benchmark;
+
+import com.taskmanagement.api.entity.User;
+import com.taskmanagement.api.security.JwtClaims;
+import com.taskmanagement.api.security.JwtTokenProvider;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validating an access token and reading its claims: one
+ * {@link JwtTokenProvider#parseAndVerify} against a signature check per claim, as
+ * with {@code validateToken} followed by the single-claim getters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtParseBenchmark {
+
+    private JwtTokenProvider tokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider("unused", 86_400_000L, 2_592_000_000L);
+        token = tokenProvider.generateAccessToken(User.builder()
+                .id(UUID.randomUUID())
+                .username("benchmark")
+                .email("benchmark@example.com")
+                .firstName("Bench")
+                .lastName("Mark")
+                .build());
+    }
+
+    @Benchmark
+    public void parseOnce(Blackhole blackhole) {
+        JwtClaims claims = tokenProvider.parseAndVerify(token);
+        blackhole.consume(claims.username());
+        blackhole.consume(claims.userId());
+        blackhole.consume(claims.type());
+    }
+
+    @Benchmark
+    public void parsePerClaim(Blackhole blackhole) {
+        blackhole.consume(tokenProvider.validateToken(token));
+        blackhole.consume(tokenProvider.getUsernameFromToken(token));
+        blackhole.consume(tokenProvider.getUserIdFromToken(token));
+        blackhole.consume(tokenProvider.getTokenType(token));
+    }
+}
@@ -0,0 +1,85 @@
+package com.taskmanagement.api.benchmark;
+
+import com.taskmanagement.api.dto.request.TaskFilterRequest;
+import com.taskmanagement.api.dto.response.CursorPageResponse;
+import com.taskmanagement.api.dto.response.TaskResponse;
+import com.taskmanagement.api.enums.CountMode;
+import com.taskmanagement.api.enums.TaskSortField;
+import com.taskmanagement.api.service.TaskCursor;
+import com.taskmanagement.api.service.TaskService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One page of {@code GET /api/tasks} (newest first, {@link #SIZE} rows) at a given
+ * depth in a list of {@link BenchmarkApplication#TASKS} tasks: offset paging with
+ * the default exact total and without a total, and keyset paging from the cursor
+ * of the page before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TaskPagingBenchmark {
+
+    private static final int SIZE = 20;
+
+    @Param({"0", "100", "5000"})
+    public int page;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private UUID userId;
+    private TaskFilterRequest offsetExact;
+    private TaskFilterRequest offsetNoCount;
+    private TaskFilterRequest keyset;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        taskService = context.getBean(TaskService.class);
+        userId = BenchmarkApplication.userId(context);
+
+        offsetExact = TaskFilterRequest.builder().page(page).size(SIZE).count(CountMode.EXACT).build();
+        offsetNoCount = TaskFilterRequest.builder().page(page).size(SIZE).count(CountMode.NONE).build();
+
+        // The cursor a client gets with the page before: the position after its last task
+        String cursor = "";
+        if (page > 0) {
+            List<TaskResponse> previous = taskService.getTasks(userId, TaskFilterRequest.builder()
+                    .page(page - 1).size(SIZE).count(CountMode.NONE).build()).getContent();
+            TaskResponse last = previous.get(previous.size() - 1);
+            cursor = new TaskCursor(TaskSortField.CREATED_AT, Sort.Direction.DESC,
+                    last.getCreatedAt().toString(), last.getId()).encode();
+        }
+        keyset = TaskFilterRequest.builder().size(SIZE).cursor(cursor).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Slice<TaskResponse> offsetWithExactTotal() {
+        return taskService.getTasks(userId, offsetExact);
+    }
+
+    @Benchmark
+    public Slice<TaskResponse> offsetWithoutTotal() {
+        return taskService.getTasks(userId, offsetNoCount);
+    }
+
+    @Benchmark
+    public CursorPageResponse<TaskResponse> keyset() {
+        return taskService.getTasksByCursor(userId, keyset);
+    }
+}
@@ -0,0 +1,55 @@
+package com.taskmanagement.api.benchmark;
+
+import com.taskmanagement.api.dto.request.TaskFilterRequest;
+import com.taskmanagement.api.dto.response.TaskResponse;
+import com.taskmanagement.api.service.TaskService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Slice;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code GET /api/tasks?search=} over {@link BenchmarkApplication#TASKS} tasks, with
+ * the full-text index ({@code app.tasks.search.full-text=true}) and with the
+ * {@code LOWER(...) LIKE '%term%'} fallback, for a term in 1 task of 8 and for one in
+ * a single task. The first page with the default exact total.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TaskSearchBenchmark {
+
+    @Param({"true", "false"})
+    public boolean fullText;
+
+    @Param({"invoice", "ticket 4242"})
+    public String search;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private UUID userId;
+    private TaskFilterRequest filter;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start("app.tasks.search.full-text=" + fullText);
+        taskService = context.getBean(TaskService.class);
+        userId = BenchmarkApplication.userId(context);
+        filter = TaskFilterRequest.builder().search(search).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Slice<TaskResponse> search() {
+        return taskService.getTasks(userId, filter);
+    }
+}
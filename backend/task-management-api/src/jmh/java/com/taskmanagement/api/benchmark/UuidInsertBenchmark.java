@@ -0,0 +1,162 @@
+package com.taskmanagement.api.benchmark;
+
+import com.taskmanagement.api.entity.UuidV7Generator;
+import com.taskmanagement.api.support.TestPostgres;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserts into {@code tasks} (every fourth task with an attachment) with random
+ * version 4 ids and with the time-ordered version 7 ids of {@link UuidV7Generator},
+ * in transactions of {@link #BATCH} tasks. Scores are tasks per second and the
+ * time per task. At the end of each trial the size, leaf density and leaf
+ * fragmentation ({@code pgstatindex}) of the primary keys and of the foreign key
+ * indexes on task and project ids are printed.
+ *
+ * <p>Each id version gets a database of its own, emptied at the start of a trial.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class UuidInsertBenchmark {
+
+    private static final int BATCH = 500;
+    private static final int PROJECTS = 100;
+    private static final List<String> INDEXES = List.of(
+            "tasks_pkey", "attachments_pkey", "idx_attachments_task", "idx_tasks_project");
+
+    @Param({"v4", "v7"})
+    public String version;
+
+    private Connection connection;
+    private PreparedStatement insertTask;
+    private PreparedStatement insertAttachment;
+    private UUID userId;
+    private final List<UUID> projectIds = new ArrayList<>();
+
+    @Setup
+    public void setUp() throws SQLException {
+        String url = TestPostgres.jdbcUrl("task_uuid_" + version + "_benchmark");
+        Flyway.configure()
+                .dataSource(url, TestPostgres.username(), TestPostgres.password())
+                .locations("classpath:db/migration")
+                .configuration(Map.of("flyway.postgresql.transactional.lock", "false"))
+                .load()
+                .migrate();
+
+        connection = DriverManager.getConnection(url, TestPostgres.username(), TestPostgres.password());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE EXTENSION IF NOT EXISTS pgstattuple");
+            // Empties every table that references users, and their indexes
+            statement.execute("TRUNCATE users CASCADE");
+        }
+
+        userId = nextId();
+        try (PreparedStatement user = connection.prepareStatement("""
+                INSERT INTO users (id, username, email, first_name, last_name, password,
+                                   is_active, email_verified, created_at, updated_at)
+                VALUES (?, 'bench_user', 'bench_user@example.com', 'Bench', 'User', 'x', true, true, now(), now())
+                """);
+             PreparedStatement project = connection.prepareStatement("""
+                     INSERT INTO projects (id, name, user_id, created_at, updated_at)
+                     VALUES (?, ?, ?, now(), now())
+                     """)) {
+            user.setObject(1, userId);
+            user.executeUpdate();
+            for (int i = 0; i < PROJECTS; i++) {
+                UUID projectId = nextId();
+                project.setObject(1, projectId);
+                project.setString(2, "Project " + i);
+                project.setObject(3, userId);
+                project.executeUpdate();
+                projectIds.add(projectId);
+            }
+        }
+
+        connection.setAutoCommit(false);
+        insertTask = connection.prepareStatement("""
+                INSERT INTO tasks (id, title, description, status, priority, user_id, project_id, is_deleted,
+                                   created_at, updated_at)
+                VALUES (?, ?, 'Inserted by UuidInsertBenchmark', 'TODO', 'MEDIUM', ?, ?, false, ?, ?)
+                """);
+        insertAttachment = connection.prepareStatement("""
+                INSERT INTO attachments (id, filename, original_filename, file_path, file_size, mime_type,
+                                         task_id, uploaded_at)
+                VALUES (?, 'file.txt', 'file.txt', '/tmp/file.txt', 1, 'text/plain', ?, ?)
+                """);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.commit();
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            ResultSet tasks = statement.executeQuery("SELECT COUNT(*) FROM tasks");
+            tasks.next();
+            long rows = tasks.getLong(1);
+            System.out.printf("%n%s ids, %,d tasks:%n", version, rows);
+            System.out.printf("  %-22s %12s %14s %14s %14s%n",
+                    "index", "size (KiB)", "bytes/task", "leaf density", "fragmentation");
+            for (String index : INDEXES) {
+                ResultSet stats = statement.executeQuery("""
+                        SELECT pg_relation_size('%1$s'), avg_leaf_density, leaf_fragmentation
+                        FROM pgstatindex('%1$s')
+                        """.formatted(index));
+                stats.next();
+                long size = stats.getLong(1);
+                System.out.printf("  %-22s %,12d %14.1f %13.1f%% %13.1f%%%n",
+                        index, size / 1024, rows > 0 ? (double) size / rows : 0.0,
+                        stats.getDouble(2), stats.getDouble(3));
+            }
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void insertBatch() throws SQLException {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < BATCH; i++) {
+            UUID taskId = nextId();
+            insertTask.setObject(1, taskId);
+            insertTask.setString(2, "Task " + i);
+            insertTask.setObject(3, userId);
+            insertTask.setObject(4, projectIds.get(random.nextInt(PROJECTS)));
+            insertTask.setTimestamp(5, now);
+            insertTask.setTimestamp(6, now);
+            insertTask.addBatch();
+            if (i % 4 == 0) {
+                insertAttachment.setObject(1, nextId());
+                insertAttachment.setObject(2, taskId);
+                insertAttachment.setTimestamp(3, now);
+                insertAttachment.addBatch();
+            }
+        }
+        insertTask.executeBatch();
+        insertAttachment.executeBatch();
+        connection.commit();
+    }
+
+    private UUID nextId() {
+        return "v7".equals(version) ? UuidV7Generator.next() : UUID.randomUUID();
+    }
+}
@@ -0,0 +1,86 @@
+package com.taskmanagement.api.controller;
+
+import com.taskmanagement.api.dto.request.JobRequest;
+import com.taskmanagement.api.dto.response.JobResponse;
+import com.taskmanagement.api.security.UserPrincipal;
+import com.taskmanagement.api.service.JobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/jobs")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('USER')")
+@CrossOrigin(origins = "${app.cors.allowed-origins}")
+@Tag(name = "Jobs", description = "Background jobs: task imports, large project deletes, stats rebuilds")
+@Slf4j
+public class JobController {
+
+    private final JobService jobService;
+
+    @PostMapping
+    @Operation(
+            summary = "Submit job",
+            description = "Queues a job that runs in the background. Only TASK_STATS_REBUILD is submitted here; " +
+                    "imports and project deletes start from their own endpoints.",
+            responses = {
+                    @ApiResponse(responseCode = "202", description = "Job queued (or the identical job already queued)"),
+                    @ApiResponse(responseCode = "400", description = "Job type cannot be submitted directly"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized")
+            }
+    )
+    public ResponseEntity<JobResponse> submitJob(
+            @AuthenticationPrincipal UserPrincipal currentUser,
+            @Valid @RequestBody JobRequest request) {
+        log.info("POST /api/jobs - userId={} type={}", currentUser.getId(), request.getType());
+        JobResponse job = jobService.submit(currentUser.getId(), request);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/jobs/" + job.getId()))
+                .body(job);
+    }
+
+    @GetMapping("/{jobId}")
+    @Operation(
+            summary = "Get job",
+            description = "State, progress and result of a job",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Job retrieved successfully"),
+                    @ApiResponse(responseCode = "404", description = "Job not found"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized")
+            }
+    )
+    public ResponseEntity<JobResponse> getJob(
+            @AuthenticationPrincipal UserPrincipal currentUser,
+            @Parameter(description = "Job ID") @PathVariable UUID jobId) {
+        return ResponseEntity.ok(jobService.getJob(currentUser.getId(), jobId));
+    }
+
+    @PostMapping("/{jobId}/cancel")
+    @Operation(
+            summary = "Cancel job",
+            description = "Cancels a queued job, or asks a running one to stop. Finished jobs are returned unchanged.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Cancel recorded"),
+                    @ApiResponse(responseCode = "404", description = "Job not found"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized")
+            }
+    )
+    public ResponseEntity<JobResponse> cancelJob(
+            @AuthenticationPrincipal UserPrincipal currentUser,
+            @Parameter(description = "Job ID") @PathVariable UUID jobId) {
+        log.info("POST /api/jobs/{}/cancel - userId={}", jobId, currentUser.getId());
+        return ResponseEntity.ok(jobService.cancel(currentUser.getId(), jobId));
+    }
+}
@@ -2,6 +2,7 @@ package com.taskmanagement.api.controller;
 
 import com.taskmanagement.api.dto.request.ProjectCreateRequest;
 import com.taskmanagement.api.dto.request.ProjectUpdateRequest;
+import com.taskmanagement.api.dto.response.JobResponse;
 import com.taskmanagement.api.dto.response.MessageResponse;
 import com.taskmanagement.api.dto.response.ProjectResponse;
 import com.taskmanagement.api.dto.response.ProjectSummaryResponse;
@@ -14,13 +15,16 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -130,9 +134,11 @@ public class ProjectController {
     @DeleteMapping("/{projectId}")
     @Operation(
             summary = "Delete project",
-            description = "Deletes a project and all its associated tasks",
+            description = "Deletes a project and all its associated tasks. Projects with many tasks are deleted " +
+                    "in the background; the Location header then points to the job.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Project deleted successfully"),
+                    @ApiResponse(responseCode = "202", description = "Project deletion queued"),
                     @ApiResponse(responseCode = "404", description = "Project not found"),
                     @ApiResponse(responseCode = "403", description = "Access denied"),
                     @ApiResponse(responseCode = "401", description = "Unauthorized")
@@ -142,24 +148,32 @@ public class ProjectController {
             @AuthenticationPrincipal UserPrincipal currentUser,
             @Parameter(description = "Project ID") @PathVariable UUID projectId) {
         log.info("DELETE /api/projects/{} - userId={}", projectId, currentUser.getId());
-        projectService.deleteProject(currentUser.getId(), projectId);
+        Optional<JobResponse> job = projectService.deleteProject(currentUser.getId(), projectId);
+        if (job.isPresent()) {
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/jobs/" + job.get().getId()))
+                    .body(MessageResponse.success("Project deletion queued"));
+        }
         return ResponseEntity.ok(MessageResponse.success("Project deleted successfully"));
     }
 
     @GetMapping("/search")
     @Operation(
             summary = "Search projects",
-            description = "Search projects by name or description",
+            description = "Search projects by name or description; tolerates typos, best match first",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Search results retrieved successfully"),
                     @ApiResponse(responseCode = "401", description = "Unauthorized")
             }
     )
-    public ResponseEntity<List<ProjectResponse>> searchProjects(
+    public ResponseEntity<Slice<ProjectResponse>> searchProjects(
             @AuthenticationPrincipal UserPrincipal currentUser,
-            @Parameter(description = "Search term") @RequestParam String query) {
+            @Parameter(description = "Search term") @RequestParam String query,
+            @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size (max 100)") @RequestParam(defaultValue = "20") int size) {
         log.debug("GET /api/projects/search - userId={} query={}", currentUser.getId(), query);
-        List<ProjectResponse> projects = projectService.searchProjects(currentUser.getId(), query);
+        Slice<ProjectResponse> projects = projectService.searchProjects(currentUser.getId(), query,
+                Math.max(page, 0), Math.min(Math.max(size, 1), 100));
         return ResponseEntity.ok(projects);
     }
 
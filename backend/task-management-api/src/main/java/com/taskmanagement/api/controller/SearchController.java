@@ -0,0 +1,48 @@
+package com.taskmanagement.api.controller;
+
+import com.taskmanagement.api.dto.response.SuggestionResponse;
+import com.taskmanagement.api.security.UserPrincipal;
+import com.taskmanagement.api.service.SuggestionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('USER')")
+@CrossOrigin(origins = "${app.cors.allowed-origins}")
+@Tag(name = "Search", description = "Search endpoints")
+@Slf4j
+public class SearchController {
+
+    private final SuggestionService suggestionService;
+
+    @GetMapping("/suggest")
+    @Operation(
+            summary = "Suggest tasks and projects",
+            description = "Search-as-you-type over task titles and project names; every word of q is matched as a word prefix",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Suggestions retrieved successfully"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized")
+            }
+    )
+    public ResponseEntity<List<SuggestionResponse>> suggest(
+            @AuthenticationPrincipal UserPrincipal currentUser,
+            @Parameter(description = "Text typed so far") @RequestParam String q,
+            @Parameter(description = "Maximum number of suggestions (max 50)") @RequestParam(defaultValue = "10") int limit) {
+        log.debug("GET /api/search/suggest - userId={} q={}", currentUser.getId(), q);
+        List<SuggestionResponse> suggestions = suggestionService.suggest(currentUser.getId(), q,
+                Math.min(Math.max(limit, 1), 50));
+        return ResponseEntity.ok(suggestions);
+    }
+}
@@ -1,29 +1,46 @@
 package com.taskmanagement.api.controller;
 
+import com.taskmanagement.api.dto.request.BulkTaskRequest;
 import com.taskmanagement.api.dto.request.TaskCreateRequest;
 import com.taskmanagement.api.dto.request.TaskFilterRequest;
 import com.taskmanagement.api.dto.request.TaskUpdateRequest;
+import com.taskmanagement.api.dto.response.BulkTaskResponse;
+import com.taskmanagement.api.dto.response.CursorPageResponse;
+import com.taskmanagement.api.dto.response.JobResponse;
 import com.taskmanagement.api.dto.response.MessageResponse;
 import com.taskmanagement.api.dto.response.TaskResponse;
+import com.taskmanagement.api.enums.CountMode;
+import com.taskmanagement.api.enums.TaskFileFormat;
 import com.taskmanagement.api.enums.TaskPriority;
 import com.taskmanagement.api.enums.TaskStatus;
 import com.taskmanagement.api.security.UserPrincipal;
+import com.taskmanagement.api.service.BulkTaskService;
+import com.taskmanagement.api.service.TaskExportService;
+import com.taskmanagement.api.service.TaskImportService;
 import com.taskmanagement.api.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -35,6 +52,9 @@ import java.util.UUID;
 @Tag(name = "Tasks", description = "Task management endpoints")
 public class TaskController {
     private final TaskService taskService;
+    private final BulkTaskService bulkTaskService;
+    private final TaskExportService taskExportService;
+    private final TaskImportService taskImportService;
 
     @Operation(
             summary = "List tasks",
@@ -45,19 +65,25 @@ public class TaskController {
             @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     @GetMapping
-    public ResponseEntity<Page<TaskResponse>> getTasks(
+    public ResponseEntity<Slice<TaskResponse>> getTasks(
             @AuthenticationPrincipal UserPrincipal currentUser,
             @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size,
-            @Parameter(description = "Sort by field") @RequestParam(defaultValue = "createdAt") String sortBy,
+            @Parameter(description = "Sort by field: createdAt|updatedAt|dueDate|title|status|priority") @RequestParam(defaultValue = "createdAt") String sortBy,
             @Parameter(description = "Sort direction: asc|desc") @RequestParam(defaultValue = "desc") String sortDirection,
             @Parameter(description = "Filter by task status") @RequestParam(required = false) TaskStatus status,
             @Parameter(description = "Filter by task priority") @RequestParam(required = false) TaskPriority priority,
             @Parameter(description = "Filter by project ID") @RequestParam(required = false) UUID projectId,
-            @Parameter(description = "Search text in title/description") @RequestParam(required = false) String search) {
+            @Parameter(description = "Search words in title/description (prefix match; best match first when no other filter is set)") @RequestParam(required = false) String search,
+            @Parameter(description = "Due on or after this date") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "Due on or before this date") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "Only open tasks past their due date") @RequestParam(required = false) Boolean overdue,
+            @Parameter(description = "Only open tasks due today") @RequestParam(required = false) Boolean dueToday,
+            @Parameter(description = "Total count: exact|estimate (from counters)|none (returns a Slice without totals)") @RequestParam(defaultValue = "exact") String count) {
 
-        log.debug("GET /api/tasks - userId={} page={} size={} sortBy={} sortDirection={} status={} priority={} projectId={} search={}",
-                currentUser.getId(), page, size, sortBy, sortDirection, status, priority, projectId, search);
+        log.debug("GET /api/tasks - userId={} page={} size={} sortBy={} sortDirection={} status={} priority={} projectId={} search={} startDate={} endDate={} overdue={} dueToday={}",
+                currentUser.getId(), page, size, sortBy, sortDirection, status, priority, projectId, search,
+                startDate, endDate, overdue, dueToday);
 
         TaskFilterRequest filter = TaskFilterRequest.builder()
                 .page(page)
@@ -68,12 +94,139 @@ public class TaskController {
                 .priority(priority)
                 .projectId(projectId)
                 .search(search)
+                .startDate(startDate)
+                .endDate(endDate)
+                .overdue(overdue)
+                .dueToday(dueToday)
+                .count(CountMode.fromParam(count))
                 .build();
 
-        Page<TaskResponse> tasks = taskService.getTasks(currentUser.getId(), filter);
+        Slice<TaskResponse> tasks = taskService.getTasks(currentUser.getId(), filter);
         return ResponseEntity.ok(tasks);
     }
 
+    @Operation(
+            summary = "List tasks by cursor",
+            description = "Keyset-paginated variant of List tasks, selected by the cursor parameter (empty for the first slice). " +
+                    "Returns nextCursor instead of totals; every slice costs the same regardless of depth."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or unsupported sort"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPageResponse<TaskResponse>> getTasksByCursor(
+            @AuthenticationPrincipal UserPrincipal currentUser,
+            @Parameter(description = "nextCursor from the previous slice; empty for the first slice") @RequestParam String cursor,
+            @Parameter(description = "Slice size") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Sort by field: createdAt|updatedAt|title") @RequestParam(defaultValue = "createdAt") String sortBy,
+            @Parameter(description = "Sort direction: asc|desc") @RequestParam(defaultValue = "desc") String sortDirection,
+            @Parameter(description = "Filter by task status") @RequestParam(required = false) TaskStatus status,
+            @Parameter(description = "Filter by task priority") @RequestParam(required = false) TaskPriority priority,
+            @Parameter(description = "Filter by project ID") @RequestParam(required = false) UUID projectId,
+            @Parameter(description = "Search words in title/description (prefix match)") @RequestParam(required = false) String search,
+            @Parameter(description = "Due on or after this date") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "Due on or before this date") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "Only open tasks past their due date") @RequestParam(required = false) Boolean overdue,
+            @Parameter(description = "Only open tasks due today") @RequestParam(required = false) Boolean dueToday) {
+
+        log.debug("GET /api/tasks (cursor) - userId={} size={} sortBy={} sortDirection={}",
+                currentUser.getId(), size, sortBy, sortDirection);
+
+        TaskFilterRequest filter = TaskFilterRequest.builder()
+                .cursor(cursor)
+                .size(Math.min(Math.max(size, 1), 100))
+                .sortBy(sortBy)
+                .sortDirection(sortDirection)
+                .status(status)
+                .priority(priority)
+                .projectId(projectId)
+                .search(search)
+                .startDate(startDate)
+                .endDate(endDate)
+                .overdue(overdue)
+                .dueToday(dueToday)
+                .build();
+
+        return ResponseEntity.ok(taskService.getTasksByCursor(currentUser.getId(), filter));
+    }
+
+    @Operation(
+            summary = "Export tasks",
+            description = "Stream every task matching the list filters as NDJSON (one JSON object per line) or CSV. " +
+                    "Rows are written as they are read, so the export size is not limited by server memory."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Export streamed"),
+            @ApiResponse(responseCode = "400", description = "Invalid format, sort or filter"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    @GetMapping("/export")
+    public void exportTasks(
+            @AuthenticationPrincipal UserPrincipal currentUser,
+            @Parameter(description = "Output format: ndjson|csv") @RequestParam(defaultValue = "ndjson") String format,
+            @Parameter(description = "Sort by field: createdAt|updatedAt|dueDate|title|status|priority") @RequestParam(defaultValue = "createdAt") String sortBy,
+            @Parameter(description = "Sort direction: asc|desc") @RequestParam(defaultValue = "desc") String sortDirection,
+            @Parameter(description = "Filter by task status") @RequestParam(required = false) TaskStatus status,
+            @Parameter(description = "Filter by task priority") @RequestParam(required = false) TaskPriority priority,
+            @Parameter(description = "Filter by project ID") @RequestParam(required = false) UUID projectId,
+            @Parameter(description = "Search words in title/description (prefix match)") @RequestParam(required = false) String search,
+            @Parameter(description = "Due on or after this date") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "Due on or before this date") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "Only open tasks past their due date") @RequestParam(required = false) Boolean overdue,
+            @Parameter(description = "Only open tasks due today") @RequestParam(required = false) Boolean dueToday,
+            HttpServletResponse response) throws IOException {
+
+        // Parse before anything is written so a bad format still gets a 400 body
+        TaskFileFormat exportFormat = TaskFileFormat.fromParam(format);
+        log.info("GET /api/tasks/export - userId={} format={}", currentUser.getId(), exportFormat);
+
+        TaskFilterRequest filter = TaskFilterRequest.builder()
+                .sortBy(sortBy)
+                .sortDirection(sortDirection)
+                .status(status)
+                .priority(priority)
+                .projectId(projectId)
+                .search(search)
+                .startDate(startDate)
+                .endDate(endDate)
+                .overdue(overdue)
+                .dueToday(dueToday)
+                .build();
+
+        response.setContentType(exportFormat.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"tasks." + exportFormat.getFileExtension() + "\"");
+        taskExportService.export(currentUser.getId(), filter, exportFormat, response.getOutputStream());
+    }
+
+    @Operation(
+            summary = "Import tasks",
+            description = "Upload CSV (with a header row; the export format works) or NDJSON as the raw request body. " +
+                    "The file is imported by a background job; poll /api/jobs/{id} for progress, and for rejected rows in its result."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "Import queued"),
+            @ApiResponse(responseCode = "400", description = "Unknown format or file too large"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    @PostMapping("/import")
+    public ResponseEntity<JobResponse> importTasks(
+            @AuthenticationPrincipal UserPrincipal currentUser,
+            @Parameter(description = "Input format: ndjson|csv; defaults to the Content-Type") @RequestParam(required = false) String format,
+            HttpServletRequest request) throws IOException {
+        TaskFileFormat importFormat = format != null
+                ? TaskFileFormat.fromParam(format)
+                : Optional.ofNullable(TaskFileFormat.fromContentType(request.getContentType())).orElse(TaskFileFormat.CSV);
+        log.info("POST /api/tasks/import - userId={} format={}", currentUser.getId(), importFormat);
+
+        JobResponse job = taskImportService.submit(currentUser.getId(), importFormat, request.getInputStream());
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/jobs/" + job.getId()))
+                .body(job);
+    }
+
     @Operation(summary = "Get task by ID", description = "Retrieve a single task by its ID")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Task retrieved successfully"),
@@ -105,6 +258,25 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.CREATED).body(task);
     }
 
+    @Operation(
+            summary = "Bulk update tasks",
+            description = "Apply up to " + BulkTaskRequest.MAX_OPERATIONS + " status, priority, move or delete operations " +
+                    "in one transaction. Returns one result per operation, in request order; failed operations do not " +
+                    "roll back the others."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Operations processed; see per-item results"),
+            @ApiResponse(responseCode = "400", description = "Validation failed"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkTaskResponse> bulkUpdateTasks(
+            @AuthenticationPrincipal UserPrincipal currentUser,
+            @Valid @RequestBody BulkTaskRequest request) {
+        log.info("POST /api/tasks/bulk - userId={} operations={}", currentUser.getId(), request.getOperations().size());
+        return ResponseEntity.ok(bulkTaskService.apply(currentUser.getId(), request));
+    }
+
     @Operation(summary = "Update task", description = "Update an existing task by ID")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Task updated successfully"),
@@ -0,0 +1,34 @@
+package com.taskmanagement.api.dto.request;
+
+import com.taskmanagement.api.enums.BulkTaskAction;
+import com.taskmanagement.api.enums.TaskPriority;
+import com.taskmanagement.api.enums.TaskStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkTaskOperation {
+
+    @NotNull(message = "Task ID is required")
+    private UUID taskId;
+
+    @NotNull(message = "Action is required")
+    private BulkTaskAction action;
+
+    // Required for SET_STATUS
+    private TaskStatus status;
+
+    // Required for SET_PRIORITY
+    private TaskPriority priority;
+
+    // Target of MOVE_TO_PROJECT; null removes the task from its project
+    private UUID projectId;
+}
@@ -0,0 +1,18 @@
+package com.taskmanagement.api.dto.request;
+
+import com.taskmanagement.api.enums.JobType;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobRequest {
+
+    @NotNull(message = "Job type is required")
+    private JobType type;
+}
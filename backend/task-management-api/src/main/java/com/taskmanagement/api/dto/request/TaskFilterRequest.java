@@ -1,5 +1,6 @@
 package com.taskmanagement.api.dto.request;
 
+import com.taskmanagement.api.enums.CountMode;
 import com.taskmanagement.api.enums.TaskPriority;
 import com.taskmanagement.api.enums.TaskStatus;
 import lombok.AllArgsConstructor;
@@ -28,6 +29,9 @@ public class TaskFilterRequest {
     @Builder.Default
     private String sortDirection = "desc";
 
+    @Builder.Default
+    private CountMode count = CountMode.EXACT;
+
     private TaskStatus status;
 
     private TaskPriority priority;
@@ -43,4 +47,7 @@ public class TaskFilterRequest {
     private Boolean overdue;
 
     private Boolean dueToday;
+
+    // Keyset mode only: opaque position returned as nextCursor; blank for the first slice
+    private String cursor;
 }
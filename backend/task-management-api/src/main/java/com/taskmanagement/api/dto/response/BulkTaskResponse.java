@@ -0,0 +1,21 @@
+package com.taskmanagement.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk request: one result per operation, in request order.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskResponse {
+    private int succeeded;
+    private int failed;
+    private List<BulkTaskResult> results;
+}
@@ -0,0 +1,22 @@
+package com.taskmanagement.api.dto.response;
+
+import com.taskmanagement.api.enums.BulkTaskAction;
+import com.taskmanagement.api.enums.BulkTaskResultStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskResult {
+    private UUID taskId;
+    private BulkTaskAction action;
+    private BulkTaskResultStatus status;
+    // Reason when status is not SUCCESS
+    private String message;
+}
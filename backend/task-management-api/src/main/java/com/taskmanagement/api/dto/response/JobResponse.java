@@ -0,0 +1,53 @@
+package com.taskmanagement.api.dto.response;
+
+import com.taskmanagement.api.entity.Job;
+import com.taskmanagement.api.enums.JobState;
+import com.taskmanagement.api.enums.JobType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Status of a background job. Progress is refreshed by the running node about
+ * once per heartbeat interval; the result is set once the job has COMPLETED.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobResponse {
+
+    private UUID id;
+    private JobType type;
+    private JobState state;
+    private Long progressCurrent;
+    // Null while the total is not known yet
+    private Long progressTotal;
+    private Boolean cancelRequested;
+    private Map<String, Object> result;
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    public static JobResponse fromEntity(Job job) {
+        return JobResponse.builder()
+                .id(job.getId())
+                .type(job.getType())
+                .state(job.getState())
+                .progressCurrent(job.getProgressCurrent())
+                .progressTotal(job.getProgressTotal())
+                .cancelRequested(job.getCancelRequested())
+                .result(job.getResult())
+                .error(job.getError())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
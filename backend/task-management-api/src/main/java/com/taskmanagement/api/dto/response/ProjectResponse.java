@@ -1,6 +1,7 @@
 package com.taskmanagement.api.dto.response;
 
 import com.taskmanagement.api.entity.Project;
+import com.taskmanagement.api.repository.projection.ProjectListView;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -28,9 +29,6 @@ public class ProjectResponse {
     private Boolean isOverdue;
 
     public static ProjectResponse fromEntity(Project project) {
-        boolean isOverdue = project.getDeadline() != null &&
-                LocalDateTime.now().isAfter(project.getDeadline());
-
         return ProjectResponse.builder()
                 .id(project.getId())
                 .name(project.getName())
@@ -42,7 +40,30 @@ public class ProjectResponse {
                 .taskCount(project.getTaskCount())
                 .completedTaskCount(project.getCompletedTaskCount())
                 .progress(project.getProgress())
-                .isOverdue(isOverdue)
+                .isOverdue(isOverdue(project.getDeadline()))
+                .build();
+    }
+
+    public static ProjectResponse fromView(ProjectListView view) {
+        int taskCount = view.taskCount() != null ? view.taskCount() : 0;
+        int completedTaskCount = view.completedTaskCount() != null ? view.completedTaskCount() : 0;
+
+        return ProjectResponse.builder()
+                .id(view.id())
+                .name(view.name())
+                .description(view.description())
+                .color(view.color())
+                .deadline(view.deadline())
+                .createdAt(view.createdAt())
+                .updatedAt(view.updatedAt())
+                .taskCount(taskCount)
+                .completedTaskCount(completedTaskCount)
+                .progress(taskCount > 0 ? (completedTaskCount * 100.0) / taskCount : 0.0)
+                .isOverdue(isOverdue(view.deadline()))
                 .build();
     }
+
+    private static boolean isOverdue(LocalDateTime deadline) {
+        return deadline != null && LocalDateTime.now().isAfter(deadline);
+    }
 }
@@ -19,6 +19,7 @@ public class ProjectSummaryResponse {
     private String color;
     private Integer totalTasks;
     private Integer completedTasks;
+    private Integer overdueTasks;
     private Double progress;
     private LocalDateTime deadline;
     private Boolean isOverdue;
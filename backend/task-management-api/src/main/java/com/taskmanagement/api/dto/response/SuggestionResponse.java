@@ -0,0 +1,19 @@
+package com.taskmanagement.api.dto.response;
+
+import com.taskmanagement.api.enums.SuggestionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuggestionResponse {
+    private SuggestionType type;
+    private UUID id;
+    private String text;
+}
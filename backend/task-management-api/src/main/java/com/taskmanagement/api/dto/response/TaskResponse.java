@@ -3,6 +3,7 @@ package com.taskmanagement.api.dto.response;
 import com.taskmanagement.api.entity.Task;
 import com.taskmanagement.api.enums.TaskPriority;
 import com.taskmanagement.api.enums.TaskStatus;
+import com.taskmanagement.api.repository.projection.TaskListView;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -55,4 +56,28 @@ public class TaskResponse {
                 .isDueToday(task.isDueToday())
                 .build();
     }
+
+    public static TaskResponse fromView(TaskListView view, List<AttachmentResponse> attachments) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime startOfToday = now.toLocalDate().atStartOfDay();
+        LocalDateTime dueDate = view.dueDate();
+
+        return TaskResponse.builder()
+                .id(view.id())
+                .title(view.title())
+                .description(view.description())
+                .status(view.status())
+                .priority(view.priority())
+                .dueDate(dueDate)
+                .createdAt(view.createdAt())
+                .updatedAt(view.updatedAt())
+                .completedAt(view.completedAt())
+                .projectName(view.projectName())
+                .projectId(view.projectId())
+                .attachments(attachments)
+                // Same rules as Task.isOverdue() / Task.isDueToday()
+                .isOverdue(dueDate != null && view.status() != TaskStatus.DONE && now.isAfter(dueDate))
+                .isDueToday(dueDate != null && dueDate.isAfter(startOfToday) && dueDate.isBefore(startOfToday.plusDays(1)))
+                .build();
+    }
 }
@@ -0,0 +1,81 @@
+package com.taskmanagement.api.entity;
+
+import com.taskmanagement.api.enums.JobState;
+import com.taskmanagement.api.enums.JobType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UuidGenerator;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A unit of background work in the {@code jobs} queue. State changes made by
+ * workers go through {@code JobRepository} UPDATEs so that several nodes can
+ * share the table safely.
+ */
+@Entity
+@Table(name = "jobs")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Job {
+    @Id
+    @UuidGenerator(algorithm = UuidV7Generator.class)
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 40)
+    private JobType type;
+
+    @Enumerated(EnumType.STRING)
+    @Builder.Default
+    @Column(nullable = false, length = 20)
+    private JobState state = JobState.QUEUED;
+
+    // Handler-specific input and output
+    @JdbcTypeCode(SqlTypes.JSON)
+    private Map<String, Object> payload;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    private Map<String, Object> result;
+
+    @Column(length = 1000)
+    private String error;
+
+    private Long progressCurrent;
+    private Long progressTotal;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Boolean cancelRequested = false;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(length = 100)
+    private String pinnedNode;
+
+    @Column(length = 100)
+    private String lockedBy;
+
+    private LocalDateTime heartbeatAt;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
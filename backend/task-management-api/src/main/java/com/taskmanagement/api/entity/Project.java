@@ -1,6 +1,5 @@
 package com.taskmanagement.api.entity;
 
-import com.taskmanagement.api.enums.TaskStatus;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -8,6 +7,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -22,7 +22,7 @@ import java.util.UUID;
 @Builder
 public class Project {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     private UUID id;
 
     @Column(nullable = false, length = 80)
@@ -47,29 +47,27 @@ public class Project {
     @UpdateTimestamp
     private LocalDateTime updatedAt;
 
-    @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    // No cascade: deleting a project soft deletes its tasks and detaches them first
+    // (ProjectService), so tasks and their attachments are never removed with it
+    @OneToMany(mappedBy = "project", fetch = FetchType.LAZY)
     @Builder.Default
     private List<Task> tasks = new ArrayList<>();
 
-    // Calculated fields for convenience
-    @Transient
-    public int getTaskCount() {
-        return tasks != null ? tasks.size() : 0;
-    }
+    // Denormalized task counters, maintained by ProjectCounterService through atomic
+    // UPDATE statements only (updatable = false keeps entity saves from overwriting them).
+    // Not second-level cached: every task write updates the row, so entries would not last.
+    @Builder.Default
+    @Column(nullable = false, updatable = false, columnDefinition = "integer default 0 not null")
+    private Integer taskCount = 0;
 
-    @Transient
-    public int getCompletedTaskCount() {
-        if (tasks == null) return 0;
-        return (int) tasks.stream()
-                .filter(task -> !task.getIsDeleted())
-                .filter(task -> task.getStatus() == TaskStatus.DONE)
-                .count();
-    }
+    @Builder.Default
+    @Column(nullable = false, updatable = false, columnDefinition = "integer default 0 not null")
+    private Integer completedTaskCount = 0;
 
+    // Calculated fields for convenience
     @Transient
     public double getProgress() {
-        int totalTasks = getTaskCount();
-        if (totalTasks == 0) return 0.0;
-        return (getCompletedTaskCount() * 100.0) / totalTasks;
+        if (taskCount == null || taskCount == 0) return 0.0;
+        return (completedTaskCount * 100.0) / taskCount;
     }
 }
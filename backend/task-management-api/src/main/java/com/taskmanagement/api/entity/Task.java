@@ -9,12 +9,14 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+// Indexes are partial (WHERE is_deleted = false) and live in db/migration, not here
 @Entity
 @Table(name = "tasks")
 @Data
@@ -23,7 +25,7 @@ import java.util.UUID;
 @Builder
 public class Task {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     private UUID id;
 
     @Column(nullable = false, length = 100)
@@ -120,4 +122,11 @@ public class Task {
         this.status = TaskStatus.IN_PROGRESS;
         this.completedAt = null;
     }
+
+    // Set status, stamping or clearing completedAt when it actually changes
+    public void changeStatus(TaskStatus newStatus) {
+        if (newStatus == null || newStatus == status) return;
+        this.status = newStatus;
+        this.completedAt = newStatus == TaskStatus.DONE ? LocalDateTime.now() : null;
+    }
 }
@@ -1,21 +1,30 @@
 package com.taskmanagement.api.entity;
 
+import com.taskmanagement.api.security.UserSecurityListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+@EntityListeners(UserSecurityListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -65,6 +74,19 @@ public class User {
 
     private LocalDateTime lastLoginAt;
 
+    // Access tokens carry the version they were issued under; older ones are rejected.
+    // Bumped on logout. A counter rather than a cutoff time, which the second-precision
+    // iat claim cannot order against a logout and re-login in the same second.
+    @Builder.Default
+    @Column(nullable = false)
+    private Integer tokenVersion = 0;
+
+    // Fingerprint of the security-relevant fields as loaded, used to detect changes on update
+    @Transient
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private transient Integer loadedSecurityState;
+
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @Builder.Default
     private List
@@ -112,4 +134,14 @@ public class User {
     public void updateLastLogin() {
         this.lastLoginAt = LocalDateTime.now();
     }
+
+    @Transient
+    public int getSecurityState() {
+        return Objects.hash(isActive, emailVerified, password, tokenVersion);
+    }
+
+    // Revoke every access token issued so far
+    public void revokeTokens() {
+        this.tokenVersion = tokenVersion + 1;
+    }
 }
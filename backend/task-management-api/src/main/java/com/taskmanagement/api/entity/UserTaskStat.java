@@ -0,0 +1,29 @@
+package com.taskmanagement.api.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One counter of the per-user materialized task statistics. Rows are only
+ * written through the upsert/rebuild queries in {@code UserTaskStatRepository}.
+ */
+@Entity
+@Table(name = "user_task_stats")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserTaskStat {
+
+    @EmbeddedId
+    private UserTaskStatId id;
+
+    @Column(nullable = false)
+    private Long taskCount;
+}
@@ -0,0 +1,53 @@
+package com.taskmanagement.api.entity;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.uuid.UuidValueGenerator;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+
+/**
+ * Time-ordered UUID version 7 (RFC 9562) for entity ids. The leading 48 bits are
+ * the Unix time in milliseconds, so new rows land at the right-hand edge of the
+ * primary key and foreign key B-trees instead of at random pages.
+ *
+ * <p>Within one millisecond the 12-bit {@code rand_a} field is used as a counter
+ * (seeded randomly) so ids generated by this JVM are strictly increasing; the
+ * remaining 62 bits are random.</p>
+ */
+public class UuidV7Generator implements UuidValueGenerator {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int MAX_COUNTER = 0xFFF;
+
+    private static long lastMillis;
+    private static int counter;
+
+    @Override
+    public UUID generateUuid(SharedSessionContractImplementor session) {
+        return next();
+    }
+
+    public static UUID next() {
+        long millis;
+        int sequence;
+        synchronized (UuidV7Generator.class) {
+            long now = System.currentTimeMillis();
+            if (now > lastMillis) {
+                lastMillis = now;
+                // Start low in the range to leave room for the ids that follow in this millisecond
+                counter = RANDOM.nextInt(MAX_COUNTER / 2);
+            } else if (++counter > MAX_COUNTER) {
+                // Counter exhausted (or the clock went back): borrow the next millisecond
+                lastMillis++;
+                counter = 0;
+            }
+            millis = lastMillis;
+            sequence = counter;
+        }
+
+        long mostSigBits = (millis << 16) | 0x7000L | sequence;
+        long leastSigBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
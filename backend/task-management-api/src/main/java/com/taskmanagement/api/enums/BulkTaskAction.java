@@ -0,0 +1,12 @@
+package com.taskmanagement.api.enums;
+
+/**
+ * Operations accepted by {@code POST /api/tasks/bulk}.
+ */
+public enum BulkTaskAction {
+    SET_STATUS,
+    SET_PRIORITY,
+    // A null projectId removes the task from its project
+    MOVE_TO_PROJECT,
+    DELETE
+}
@@ -0,0 +1,9 @@
+package com.taskmanagement.api.enums;
+
+public enum BulkTaskResultStatus {
+    SUCCESS,
+    // Task (or target project) does not exist, is deleted or belongs to someone else
+    NOT_FOUND,
+    // The operation is missing the value it needs
+    INVALID
+}
@@ -0,0 +1,24 @@
+package com.taskmanagement.api.enums;
+
+import com.taskmanagement.api.exception.ValidationException;
+
+/**
+ * How a paged list endpoint computes its total: an exact COUNT(*), an estimate
+ * from maintained counters, or no total at all (a Slice).
+ */
+public enum CountMode {
+    EXACT,
+    ESTIMATE,
+    NONE;
+
+    public static CountMode fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            return EXACT;
+        }
+        try {
+            return CountMode.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("count must be one of exact, estimate, none");
+        }
+    }
+}
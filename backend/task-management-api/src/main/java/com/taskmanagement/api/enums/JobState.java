@@ -0,0 +1,9 @@
+package com.taskmanagement.api.enums;
+
+public enum JobState {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED,
+    CANCELLED
+}
@@ -0,0 +1,18 @@
+package com.taskmanagement.api.enums;
+
+public enum JobType {
+    TASK_IMPORT(false),
+    PROJECT_DELETE(false),
+    TASK_STATS_REBUILD(true);
+
+    // Whether POST /api/jobs may queue it; the others start from their own endpoints
+    private final boolean submittable;
+
+    JobType(boolean submittable) {
+        this.submittable = submittable;
+    }
+
+    public boolean isSubmittable() {
+        return submittable;
+    }
+}
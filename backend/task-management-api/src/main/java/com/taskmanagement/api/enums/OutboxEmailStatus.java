@@ -0,0 +1,8 @@
+package com.taskmanagement.api.enums;
+
+public enum OutboxEmailStatus {
+    PENDING,
+    SENT,
+    // Gave up after the last attempt; kept for inspection
+    DEAD
+}
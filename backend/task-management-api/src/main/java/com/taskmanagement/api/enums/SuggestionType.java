@@ -0,0 +1,6 @@
+package com.taskmanagement.api.enums;
+
+public enum SuggestionType {
+    TASK,
+    PROJECT
+}
@@ -0,0 +1,41 @@
+package com.taskmanagement.api.enums;
+
+import com.taskmanagement.api.exception.ValidationException;
+import lombok.Getter;
+
+/**
+ * Line-oriented formats of the task export and import.
+ */
+@Getter
+public enum TaskFileFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv;charset=UTF-8", "csv");
+
+    private final String contentType;
+    private final String fileExtension;
+
+    TaskFileFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+
+    public static TaskFileFormat fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            return NDJSON;
+        }
+        try {
+            return TaskFileFormat.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("format must be one of ndjson, csv");
+        }
+    }
+
+    // Format implied by a request Content-Type, or null when it names neither
+    public static TaskFileFormat fromContentType(String contentType) {
+        if (contentType == null) return null;
+        String type = contentType.toLowerCase();
+        if (type.contains("csv")) return CSV;
+        if (type.contains("json")) return NDJSON;
+        return null;
+    }
+}
@@ -0,0 +1,43 @@
+package com.taskmanagement.api.enums;
+
+import com.taskmanagement.api.exception.ValidationException;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Whitelist of fields GET /api/tasks may be sorted by, keyed by the public
+ * {@code sortBy} value.
+ */
+@Getter
+public enum TaskSortField {
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt"),
+    DUE_DATE("dueDate"),
+    TITLE("title"),
+    STATUS("status"),
+    PRIORITY("priority");
+
+    private final String property;
+
+    TaskSortField(String property) {
+        this.property = property;
+    }
+
+    // Fields that are never null, so (value, id) identifies a position for keyset paging
+    public boolean supportsKeyset() {
+        return this == CREATED_AT || this == UPDATED_AT || this == TITLE;
+    }
+
+    public static TaskSortField fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            return CREATED_AT;
+        }
+        return Arrays.stream(values())
+                .filter(field -> field.property.equalsIgnoreCase(value.trim()))
+                .findFirst()
+                .orElseThrow(() -> new ValidationException("Cannot sort tasks by '" + value + "'. Allowed: " +
+                        Arrays.stream(values()).map(TaskSortField::getProperty).collect(Collectors.joining(", "))));
+    }
+}
@@ -0,0 +1,20 @@
+package com.taskmanagement.api.enums;
+
+/**
+ * Dimensions of the per-user {@code user_task_stats} table. Day buckets are ISO
+ * dates (yyyy-MM-dd) so they sort and range-compare as plain strings.
+ */
+public enum TaskStatDimension {
+    // Live tasks by status name
+    STATUS,
+    // Live tasks by priority name
+    PRIORITY,
+    // Live tasks by creation day
+    CREATED_DAY,
+    // Live DONE tasks by creation day
+    CREATED_DAY_DONE,
+    // Live, not-done tasks by due day; the due-date bucket index behind overdue/due-today
+    DUE_DAY_OPEN,
+    // Marker row written once the user's stats have been built from the tasks table
+    META
+}
@@ -0,0 +1,12 @@
+package com.taskmanagement.api.event;
+
+import com.taskmanagement.api.enums.JobType;
+
+import java.util.UUID;
+
+/**
+ * Published when a job is queued; once the transaction commits, the local
+ * worker polls right away instead of waiting for its next scheduled poll.
+ */
+public record JobSubmittedEvent(UUID jobId, JobType type) {
+}
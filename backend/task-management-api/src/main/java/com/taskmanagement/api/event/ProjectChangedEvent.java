@@ -0,0 +1,18 @@
+package com.taskmanagement.api.event;
+
+import java.util.UUID;
+
+/**
+ * Published inside the writing transaction when a project is created, renamed or
+ * deleted. {@code name} is null for a deleted project.
+ */
+public record ProjectChangedEvent(UUID userId, UUID projectId, String name) {
+
+    public static ProjectChangedEvent deleted(UUID userId, UUID projectId) {
+        return new ProjectChangedEvent(userId, projectId, null);
+    }
+
+    public boolean isDeleted() {
+        return name == null;
+    }
+}
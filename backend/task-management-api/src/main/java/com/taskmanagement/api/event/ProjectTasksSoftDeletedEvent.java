@@ -0,0 +1,10 @@
+package com.taskmanagement.api.event;
+
+import java.util.UUID;
+
+/**
+ * Published after every live task of a project was soft deleted in bulk, a write
+ * that bypasses the per-task {@link TaskChangedEvent}.
+ */
+public record ProjectTasksSoftDeletedEvent(UUID userId, UUID projectId) {
+}
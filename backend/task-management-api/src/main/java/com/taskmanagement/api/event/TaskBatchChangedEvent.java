@@ -0,0 +1,10 @@
+package com.taskmanagement.api.event;
+
+import java.util.List;
+
+/**
+ * Published once for a bulk write instead of one {@link TaskChangedEvent} per task,
+ * so listeners can fold all changes into one adjustment per counter row.
+ */
+public record TaskBatchChangedEvent(List<TaskChangedEvent> changes) {
+}
@@ -0,0 +1,12 @@
+package com.taskmanagement.api.event;
+
+/**
+ * Published synchronously inside the writing transaction whenever a task is
+ * created, updated or soft deleted. {@code before} is null for a new task.
+ */
+public record TaskChangedEvent(TaskSnapshot before, TaskSnapshot after) {
+
+    public static TaskChangedEvent created(TaskSnapshot after) {
+        return new TaskChangedEvent(null, after);
+    }
+}
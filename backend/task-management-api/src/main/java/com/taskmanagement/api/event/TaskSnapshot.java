@@ -0,0 +1,45 @@
+package com.taskmanagement.api.event;
+
+import com.taskmanagement.api.entity.Task;
+import com.taskmanagement.api.enums.TaskPriority;
+import com.taskmanagement.api.enums.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * The fields of a {@link Task} that derived data (counters, stats, indexes) depend on,
+ * captured before and after a write so listeners can apply the difference.
+ */
+public record TaskSnapshot(UUID id,
+                           UUID userId,
+                           UUID projectId,
+                           String title,
+                           TaskStatus status,
+                           TaskPriority priority,
+                           LocalDateTime dueDate,
+                           LocalDateTime createdAt,
+                           boolean deleted) {
+
+    public static TaskSnapshot of(Task task) {
+        return new TaskSnapshot(
+                task.getId(),
+                task.getUser() != null ? task.getUser().getId() : null,
+                task.getProject() != null ? task.getProject().getId() : null,
+                task.getTitle(),
+                task.getStatus(),
+                task.getPriority(),
+                task.getDueDate(),
+                task.getCreatedAt(),
+                Boolean.TRUE.equals(task.getIsDeleted())
+        );
+    }
+
+    public boolean isLive() {
+        return !deleted;
+    }
+
+    public boolean isDone() {
+        return status == TaskStatus.DONE;
+    }
+}
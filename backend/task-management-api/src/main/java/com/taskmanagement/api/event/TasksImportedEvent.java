@@ -0,0 +1,12 @@
+package com.taskmanagement.api.event;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Published inside the import transaction after tasks were loaded with COPY,
+ * which bypasses {@link TaskChangedEvent}; listeners rebuild what they derive
+ * from the user's tasks and the projects that received new ones.
+ */
+public record TasksImportedEvent(UUID userId, Set<UUID> projectIds, long taskCount) {
+}
@@ -38,7 +38,8 @@ public class GlobalExceptionHandler {
                 .body(MessageResponse.error(ex.getMessage(), "ACCOUNT_INACTIVE"));
     }
 
-    @ExceptionHandler({UserNotFoundException.class, TaskNotFoundException.class, ProjectNotFoundException.class})
+    @ExceptionHandler({UserNotFoundException.class, TaskNotFoundException.class, ProjectNotFoundException.class,
+            JobNotFoundException.class})
     public ResponseEntity<MessageResponse> handleNotFoundException(RuntimeException ex) {
         log.error("Resource not found: {}", ex.getMessage());
         return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -0,0 +1,7 @@
+package com.taskmanagement.api.exception;
+
+public class JobNotFoundException extends RuntimeException {
+    public JobNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,19 @@
+package com.taskmanagement.api.repository;
+
+import com.taskmanagement.api.entity.Attachment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface AttachmentRepository extends JpaRepository<Attachment, UUID> {
+
+    // Attachments of a whole page of tasks in one IN query
+    @Query("SELECT a FROM Attachment a WHERE a.task.id IN :taskIds ORDER BY a.uploadedAt")
+    List<Attachment> findByTaskIdIn(@Param("taskIds") Collection<UUID> taskIds);
+}
@@ -0,0 +1,96 @@
+package com.taskmanagement.api.repository;
+
+import com.taskmanagement.api.entity.Job;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface JobRepository extends JpaRepository<Job, UUID> {
+
+    Optional<Job> findByIdAndUserId(UUID id, UUID userId);
+
+    /**
+     * Locks up to {@code limit} of the oldest queued jobs this node may run. Rows
+     * locked by another node's claim are skipped rather than waited for, so
+     * concurrent pollers never hand out the same job twice.
+     */
+    @Query(value = """
+            SELECT * FROM jobs
+            WHERE state = 'QUEUED' AND (pinned_node IS NULL OR pinned_node = :node)
+            ORDER BY created_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<Job> lockClaimable(@Param("node") String node, @Param("limit") int limit);
+
+    // A queued or running job with the given payload value, to avoid queueing the same work twice
+    @Query(value = """
+            SELECT * FROM jobs
+            WHERE user_id = :userId AND type = :type AND state IN ('QUEUED', 'RUNNING')
+              AND payload ->> :key = :value
+            LIMIT 1
+            """, nativeQuery = true)
+    Optional<Job> findActiveByPayload(@Param("userId") UUID userId,
+                                      @Param("type") String type,
+                                      @Param("key") String key,
+                                      @Param("value") String value);
+
+    @Modifying
+    @Query("UPDATE Job j SET j.heartbeatAt = :now, j.progressCurrent = :current, j.progressTotal = :total " +
+            "WHERE j.id = :id AND j.lockedBy = :node AND j.state = 'RUNNING'")
+    int heartbeat(@Param("id") UUID id,
+                  @Param("node") String node,
+                  @Param("now") LocalDateTime now,
+                  @Param("current") Long current,
+                  @Param("total") Long total);
+
+    @Query("SELECT j.id FROM Job j WHERE j.id IN :ids AND j.cancelRequested = true")
+    List<UUID> findCancelRequestedIds(@Param("ids") Collection<UUID> ids);
+
+    // Queued jobs that no node has claimed yet are cancelled outright; pinned ones wait
+    // for their node so it can clean up their input
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Job j SET j.state = 'CANCELLED', j.cancelRequested = true, j.finishedAt = :now " +
+            "WHERE j.id = :id AND j.userId = :userId AND j.state = 'QUEUED' AND j.pinnedNode IS NULL")
+    int cancelQueued(@Param("id") UUID id, @Param("userId") UUID userId, @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Job j SET j.cancelRequested = true " +
+            "WHERE j.id = :id AND j.userId = :userId AND j.state IN ('QUEUED', 'RUNNING')")
+    int requestCancel(@Param("id") UUID id, @Param("userId") UUID userId);
+
+    // ---- Recovery from nodes that stopped (see JobWorker.reap) ----
+
+    @Modifying
+    @Query("UPDATE Job j SET j.state = 'QUEUED', j.lockedBy = NULL " +
+            "WHERE j.state = 'RUNNING' AND j.heartbeatAt < :staleBefore " +
+            "AND j.pinnedNode IS NULL AND j.attempts < :maxAttempts AND j.cancelRequested = false")
+    int requeueStale(@Param("staleBefore") LocalDateTime staleBefore, @Param("maxAttempts") int maxAttempts);
+
+    @Modifying
+    @Query("UPDATE Job j SET j.state = 'FAILED', j.error = :error, j.finishedAt = :now " +
+            "WHERE j.state = 'RUNNING' AND j.heartbeatAt < :staleBefore")
+    int failStale(@Param("staleBefore") LocalDateTime staleBefore,
+                  @Param("now") LocalDateTime now,
+                  @Param("error") String error);
+
+    @Modifying
+    @Query("UPDATE Job j SET j.state = 'FAILED', j.error = :error, j.finishedAt = :now " +
+            "WHERE j.state = 'QUEUED' AND j.pinnedNode IS NOT NULL AND j.createdAt < :queuedBefore")
+    int failUnclaimedPinned(@Param("queuedBefore") LocalDateTime queuedBefore,
+                            @Param("now") LocalDateTime now,
+                            @Param("error") String error);
+
+    @Modifying
+    @Query("DELETE FROM Job j WHERE j.finishedAt < :finishedBefore")
+    int deleteFinishedBefore(@Param("finishedBefore") LocalDateTime finishedBefore);
+}
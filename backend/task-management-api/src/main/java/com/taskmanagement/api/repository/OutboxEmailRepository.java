@@ -0,0 +1,49 @@
+package com.taskmanagement.api.repository;
+
+import com.taskmanagement.api.entity.OutboxEmail;
+import com.taskmanagement.api.enums.OutboxEmailStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface OutboxEmailRepository extends JpaRepository<OutboxEmail, UUID> {
+
+    /**
+     * Locks up to {@code limit} pending emails that are due; rows another node is
+     * claiming right now are skipped rather than waited for.
+     */
+    @Query(value = """
+            SELECT * FROM email_outbox
+            WHERE status = 'PENDING' AND next_attempt_at <= :now
+            ORDER BY next_attempt_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OutboxEmail> lockDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    long countByStatus(OutboxEmailStatus status);
+
+    @Modifying
+    @Query("UPDATE OutboxEmail e SET e.status = 'SENT', e.sentAt = :now, e.lastError = NULL WHERE e.id IN :ids")
+    int markSent(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE OutboxEmail e SET e.nextAttemptAt = :nextAttemptAt, e.lastError = :error WHERE e.id = :id")
+    int reschedule(@Param("id") UUID id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("error") String error);
+
+    @Modifying
+    @Query("UPDATE OutboxEmail e SET e.status = 'DEAD', e.lastError = :error WHERE e.id = :id")
+    int markDead(@Param("id") UUID id, @Param("error") String error);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEmail e WHERE e.status = 'SENT' AND e.sentAt < :sentBefore")
+    int deleteSentBefore(@Param("sentBefore") LocalDateTime sentBefore);
+}
@@ -1,8 +1,17 @@
 package com.taskmanagement.api.repository;
 
 import com.taskmanagement.api.entity.Project;
+import com.taskmanagement.api.repository.projection.ProjectCountSummary;
+import com.taskmanagement.api.repository.projection.ProjectListView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -16,15 +25,30 @@ public interface ProjectRepository extends JpaRepository<Project, UUID> {
     // Find projects by user
     List<Project> findByUserIdOrderByCreatedAtDesc(UUID userId);
 
+    // Same listing as above, with task counters computed in SQL
+    @Query(ProjectListView.SELECT +
+            "WHERE p.user.id = :userId " +
+            "ORDER BY p.createdAt DESC")
+    List<ProjectListView> findListViewsByUserId(@Param("userId") UUID userId);
+
     // Find project by ID and user (for security)
     Optional<Project> findByIdAndUserId(UUID id, UUID userId);
 
+    List<Project> findByIdInAndUserId(Collection<UUID> ids, UUID userId);
+
     // Find projects by user with deadline approaching
     @Query("SELECT p FROM Project p WHERE p.user.id = :userId AND p.deadline BETWEEN :startDate AND :endDate ORDER BY p.deadline ASC")
     List<Project> findByUserIdAndDeadlineBetween(@Param("userId") UUID userId,
                                                  @Param("startDate") LocalDateTime startDate,
                                                  @Param("endDate") LocalDateTime endDate);
 
+    @Query(ProjectListView.SELECT +
+            "WHERE p.user.id = :userId AND p.deadline BETWEEN :startDate AND :endDate " +
+            "ORDER BY p.deadline ASC")
+    List<ProjectListView> findListViewsByUserIdAndDeadlineBetween(@Param("userId") UUID userId,
+                                                                  @Param("startDate") LocalDateTime startDate,
+                                                                  @Param("endDate") LocalDateTime endDate);
+
     // Count projects by user
     Long countByUserId(UUID userId);
 
@@ -33,13 +57,54 @@ public interface ProjectRepository extends JpaRepository<Project, UUID> {
     List<Project> findOverdueProjectsByUserId(@Param("userId") UUID userId,
                                               @Param("currentDate") LocalDateTime currentDate);
 
-    // Search projects by name or description
-    @Query("SELECT p FROM Project p WHERE p.user.id = :userId AND " +
-            "(LOWER(p.name) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-            "LOWER(p.description) LIKE LOWER(CONCAT('%', :search, '%'))) " +
+    @Query(ProjectListView.SELECT +
+            "WHERE p.user.id = :userId " +
             "ORDER BY p.createdAt DESC")
-    List<Project> findByUserIdAndSearch(@Param("userId") UUID userId,
-                                        @Param("search") String search);
+    Slice<ProjectListView> findListViewsByUserId(@Param("userId") UUID userId, Pageable pageable);
+
+    @Query("SELECT p.id, p.name FROM Project p WHERE p.user.id = :userId")
+    List<Object[]> findNamesByUserId(@Param("userId") UUID userId);
+
+    // Scopes pg_trgm's word-similarity threshold (used by <%) to the current transaction
+    @Query(value = "SELECT set_config('pg_trgm.word_similarity_threshold', CAST(:threshold AS text), true)",
+            nativeQuery = true)
+    String setWordSimilarityThreshold(@Param("threshold") double threshold);
+
+    // Substring or typo-tolerant match on name/description, served by the trigram indexes.
+    // Name matches outrank description matches; fetches one row past the page to detect a next slice.
+    @Query(value = """
+            SELECT p.id, p.name, p.description, p.color, p.deadline, p.created_at, p.updated_at,
+                p.task_count, p.completed_task_count
+            FROM projects p
+            WHERE p.user_id = :userId
+                AND (lower(p.name) LIKE :pattern
+                    OR lower(p.description) LIKE :pattern
+                    OR :term <% lower(p.name)
+                    OR :term <% lower(p.description))
+            ORDER BY GREATEST(
+                    word_similarity(:term, lower(p.name)),
+                    0.5 * word_similarity(:term, coalesce(lower(p.description), ''))) DESC,
+                p.created_at DESC
+            LIMIT :limit OFFSET :offset
+            """, nativeQuery = true)
+    List<Object[]> searchListViewsByUserIdRaw(@Param("userId") UUID userId,
+                                              @Param("term") String term,
+                                              @Param("pattern") String pattern,
+                                              @Param("limit") int limit,
+                                              @Param("offset") long offset);
+
+    default Slice<ProjectListView> searchListViewsByUserId(UUID userId, String search, Pageable pageable) {
+        String term = search.toLowerCase(Locale.ROOT);
+        String pattern = "%" + term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        List<ProjectListView> rows = searchListViewsByUserIdRaw(userId, term, pattern,
+                pageable.getPageSize() + 1, pageable.getOffset()).stream()
+                .map(ProjectListView::fromRow)
+                .collect(Collectors.toList());
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<ProjectListView> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
 
     // Check if project name exists for user
     Boolean existsByNameAndUserId(String name, UUID userId);
@@ -56,7 +121,7 @@ public interface ProjectRepository extends JpaRepository<Project, UUID> {
 
     // Add these methods to your existing ProjectRepository interface
 
-    @Query("SELECT COUNT(p) FROM Project p WHERE p.user.id = :userId AND EXISTS (SELECT 1 FROM Task t WHERE t.project = p AND t.isDeleted = false)")
+    @Query("SELECT COUNT(p) FROM Project p WHERE p.user.id = :userId AND p.taskCount > 0")
     Long countActiveProjectsByUserId(@Param("userId") UUID userId);
 
     Long countByUserIdAndDeadlineIsNotNull(UUID userId);
@@ -65,57 +130,73 @@ public interface ProjectRepository extends JpaRepository<Project, UUID> {
 
     Long countByUserIdAndDeadlineBetween(UUID userId, LocalDateTime startDate, LocalDateTime endDate);
 
+    // All dashboard project counters in one round trip
+    @Query(value = """
+            SELECT
+                COUNT(*) AS total,
+                COUNT(*) FILTER (WHERE deadline IS NOT NULL) AS with_deadline,
+                COUNT(*) FILTER (WHERE deadline < :now) AS overdue
+            FROM projects
+            WHERE user_id = :userId
+            """, nativeQuery = true)
+    List<Object[]> getProjectCountSummaryRaw(@Param("userId") UUID userId, @Param("now") LocalDateTime now);
+
+    default ProjectCountSummary getProjectCountSummary(UUID userId, LocalDateTime now) {
+        return ProjectCountSummary.fromRow(getProjectCountSummaryRaw(userId, now).get(0));
+    }
+
     // Completed projects (all tasks done)
-    @Query("""
-            SELECT COUNT(DISTINCT p) FROM Project p 
-            WHERE p.user.id = :userId 
-                AND EXISTS (SELECT 1 FROM Task t WHERE t.project = p AND t.isDeleted = false)
-                AND NOT EXISTS (SELECT 1 FROM Task t WHERE t.project = p AND t.status != 'DONE' AND t.isDeleted = false)
-            """)
+    @Query("SELECT COUNT(p) FROM Project p WHERE p.user.id = :userId AND p.taskCount > 0 AND p.completedTaskCount = p.taskCount")
     Long countCompletedProjectsByUserId(@Param("userId") UUID userId);
 
     // Average completion rate
     @Query("""
             SELECT AVG(
-                CASE 
-                    WHEN total_tasks.task_count = 0 THEN 0
-                    ELSE (completed_tasks.completed_count * 100.0 / total_tasks.task_count)
+                CASE
+                    WHEN p.taskCount = 0 THEN 0
+                    ELSE (p.completedTaskCount * 100.0 / p.taskCount)
                 END
-            ) as average_completion_rate
-            FROM (
-                SELECT p.id as project_id, COUNT(t) as task_count
-                FROM Project p
-                LEFT JOIN Task t ON t.project = p AND t.isDeleted = false
-                WHERE p.user.id = :userId
-                GROUP BY p.id
-            ) total_tasks
-            JOIN (
-                SELECT p.id as project_id, COUNT(t) as completed_count
-                FROM Project p
-                LEFT JOIN Task t ON t.project = p AND t.status = 'DONE' AND t.isDeleted = false
-                WHERE p.user.id = :userId
-                GROUP BY p.id
-            ) completed_tasks ON total_tasks.project_id = completed_tasks.project_id
+            )
+            FROM Project p
+            WHERE p.user.id = :userId
             """)
     Double getAverageCompletionRateByUserId(@Param("userId") UUID userId);
 
     // Detailed project progress stats
     @Query("""
-            SELECT 
+            SELECT
                 p.id,
                 p.name,
                 p.color,
-                COUNT(t),
-                SUM(CASE WHEN t.status = 'DONE' THEN 1 ELSE 0 END),
+                p.taskCount,
+                p.completedTaskCount,
                 p.deadline
             FROM Project p
-            LEFT JOIN Task t ON t.project = p AND t.isDeleted = false
             WHERE p.user.id = :userId
-            GROUP BY p.id, p.name, p.color, p.deadline
             ORDER BY p.createdAt DESC
             """)
     List<Object[]> getProjectProgressStatsByUserId(@Param("userId") UUID userId);
 
+    // Per-project summary counters; totals come from the stored counters, only overdue tasks are joined
+    @Query("""
+            SELECT
+                p.id,
+                p.name,
+                p.color,
+                p.deadline,
+                p.taskCount,
+                p.completedTaskCount,
+                COUNT(t)
+            FROM Project p
+            LEFT JOIN Task t ON t.project = p AND t.isDeleted = false
+                AND t.status != 'DONE' AND t.dueDate < :currentDate
+            WHERE p.user.id = :userId
+            GROUP BY p.id, p.name, p.color, p.deadline, p.taskCount, p.completedTaskCount, p.createdAt
+            ORDER BY p.createdAt DESC
+            """)
+    List<Object[]> getProjectSummaryStatsByUserId(@Param("userId") UUID userId,
+                                                  @Param("currentDate") LocalDateTime currentDate);
+
     // Projects created by month
     @Query(value = """
                 SELECT 
@@ -175,4 +256,65 @@ public interface ProjectRepository extends JpaRepository<Project, UUID> {
         return getRecentProjectActivitiesRaw(userId, since, limit);
     }
 
+    // Denormalized task counters: relative, atomic adjustments so concurrent writers never lose updates
+    @Modifying
+    @Query("UPDATE Project p SET " +
+            "p.taskCount = p.taskCount + :total, " +
+            "p.completedTaskCount = p.completedTaskCount + :completed " +
+            "WHERE p.id = :projectId")
+    void adjustTaskCounters(@Param("projectId") UUID projectId,
+                            @Param("total") int total,
+                            @Param("completed") int completed);
+
+    // Mirrors TaskRepository.softDeleteByProjectId: no live task is left
+    @Modifying
+    @Query("UPDATE Project p SET p.taskCount = 0, p.completedTaskCount = 0 WHERE p.id = :projectId")
+    void resetTaskCounters(@Param("projectId") UUID projectId);
+
+    // Projects whose stored counters disagree with the tasks table, in id order (the row-lock order)
+    @Query(value = """
+            SELECT
+                p.id,
+                p.task_count, p.completed_task_count,
+                COALESCE(a.total, 0), COALESCE(a.completed, 0)
+            FROM projects p
+            LEFT JOIN (
+                SELECT
+                    project_id,
+                    COUNT(*) AS total,
+                    COUNT(*) FILTER (WHERE status = 'DONE') AS completed
+                FROM tasks
+                WHERE project_id IS NOT NULL AND is_deleted = false
+                GROUP BY project_id
+            ) a ON a.project_id = p.id
+            WHERE p.task_count <> COALESCE(a.total, 0)
+                OR p.completed_task_count <> COALESCE(a.completed, 0)
+            ORDER BY p.id
+            """, nativeQuery = true)
+    List<Object[]> findTaskCounterDrift();
+
+    // Row lock taken before a recount: adjustTaskCounters calls from other transactions
+    // wait for it, and the recount that follows sees every task change committed before them
+    @Query(value = "SELECT id FROM projects WHERE id = :projectId FOR UPDATE", nativeQuery = true)
+    Optional<UUID> lockForTaskCounters(@Param("projectId") UUID projectId);
+
+    // Recompute one project's counters from its live tasks in a single statement; the
+    // native spaces hint leaves the second-level cache alone. Returns 1 if they changed.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "projects"))
+    @Query(value = """
+            UPDATE projects p SET
+                task_count = a.total,
+                completed_task_count = a.completed
+            FROM (
+                SELECT
+                    COUNT(*) AS total,
+                    COUNT(*) FILTER (WHERE status = 'DONE') AS completed
+                FROM tasks
+                WHERE project_id = :projectId AND is_deleted = false
+            ) a
+            WHERE p.id = :projectId
+                AND (p.task_count <> a.total OR p.completed_task_count <> a.completed)
+            """, nativeQuery = true)
+    int recomputeTaskCounters(@Param("projectId") UUID projectId);
 }
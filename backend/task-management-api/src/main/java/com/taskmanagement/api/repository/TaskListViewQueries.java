@@ -0,0 +1,28 @@
+package com.taskmanagement.api.repository;
+
+import com.taskmanagement.api.entity.Task;
+import com.taskmanagement.api.repository.projection.TaskListView;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Specification-driven task list queries that select {@link TaskListView} rows
+ * directly; mixed into {@link TaskRepository}.
+ */
+public interface TaskListViewQueries {
+
+    /**
+     * Tasks matching {@code spec}, left-joined to their project, in the order the
+     * specification sets. {@code limit} rows from {@code offset}.
+     */
+    List<TaskListView> findListViews(Specification<Task> spec, long offset, int limit);
+
+    /**
+     * Every task matching {@code spec}, read through a server-side cursor
+     * {@code fetchSize} rows at a time. Must be consumed and closed inside a
+     * transaction.
+     */
+    Stream<TaskListView> streamListViews(Specification<Task> spec, int fetchSize);
+}
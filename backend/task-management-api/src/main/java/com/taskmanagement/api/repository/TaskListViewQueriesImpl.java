@@ -0,0 +1,61 @@
+package com.taskmanagement.api.repository;
+
+import com.taskmanagement.api.entity.Project;
+import com.taskmanagement.api.entity.Task;
+import com.taskmanagement.api.repository.projection.TaskListView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+class TaskListViewQueriesImpl implements TaskListViewQueries {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskListView> findListViews(Specification<Task> spec, long offset, int limit) {
+        return createQuery(spec)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Stream<TaskListView> streamListViews(Specification<Task> spec, int fetchSize) {
+        return createQuery(spec)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+
+    private TypedQuery<TaskListView> createQuery(Specification<Task> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskListView> query = cb.createQuery(TaskListView.class);
+        Root<Task> task = query.from(Task.class);
+        Join<Task, Project> project = task.join("project", JoinType.LEFT);
+
+        query.select(cb.construct(TaskListView.class,
+                task.get("id"), task.get("title"), task.get("description"),
+                task.get("status"), task.get("priority"), task.get("dueDate"),
+                task.get("createdAt"), task.get("updatedAt"), task.get("completedAt"),
+                project.get("id"), project.get("name")));
+
+        // Also applies the specification's ORDER BY
+        Predicate predicate = spec.toPredicate(task, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        return entityManager.createQuery(query);
+    }
+}
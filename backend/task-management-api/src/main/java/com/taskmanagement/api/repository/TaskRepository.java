@@ -4,21 +4,29 @@ import com.taskmanagement.api.dto.response.DailyTaskStats;
 import com.taskmanagement.api.entity.Task;
 import com.taskmanagement.api.enums.TaskPriority;
 import com.taskmanagement.api.enums.TaskStatus;
+import com.taskmanagement.api.repository.projection.TaskListView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, UUID> {
+public interface TaskRepository extends JpaRepository<Task, UUID>, JpaSpecificationExecutor<Task>, TaskListViewQueries {
     Page<Task> findByUserIdAndIsDeletedFalse(UUID userId, Pageable pageable);
 
     Page<Task> findByUserIdAndStatusAndIsDeletedFalse(UUID userId, TaskStatus status, Pageable pageable);
@@ -32,9 +40,46 @@ public interface TaskRepository extends JpaRepository<Task, UUID> {
                                                       @Param("search") String search,
                                                       Pageable pageable);
 
-    Long countByUserIdAndStatus(UUID userId, TaskStatus status);
+    // Full-text search over the indexed task_search_vector(title, description), best match first
+    @Query(value = "SELECT " + TaskListView.NATIVE_COLUMNS + """
+            FROM tasks t
+            CROSS JOIN to_tsquery('simple', :tsQuery) q
+            LEFT JOIN projects p ON p.id = t.project_id
+            WHERE t.user_id = :userId
+                AND t.is_deleted = false
+                AND task_search_vector(t.title, t.description) @@ q
+            ORDER BY ts_rank(task_search_vector(t.title, t.description), q) DESC, t.created_at DESC, t.id DESC
+            LIMIT :limit OFFSET :offset
+            """, nativeQuery = true)
+    List<Object[]> searchListViewsByUserIdFullTextRaw(@Param("userId") UUID userId,
+                                                      @Param("tsQuery") String tsQuery,
+                                                      @Param("limit") int limit,
+                                                      @Param("offset") long offset);
+
+    default List<TaskListView> searchListViewsByUserIdFullText(UUID userId, String search, long offset, int limit) {
+        return searchListViewsByUserIdFullTextRaw(userId, toPrefixTsQuery(search), limit, offset).stream()
+                .map(TaskListView::fromRow)
+                .collect(Collectors.toList());
+    }
 
-    Long countByUserIdAndDueDateBeforeAndStatusNot(UUID userId, LocalDateTime date, TaskStatus status);
+    // "fix log" -> "fix:* & log:*"; anything but letters and digits is dropped so
+    // user input can never produce tsquery syntax. Blank when nothing searchable is left.
+    static String toPrefixTsQuery(String search) {
+        if (search == null) return "";
+        return Arrays.stream(search.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .limit(8)
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+
+    // Id and title of every live task, for building the in-memory suggestion index
+    @Query("SELECT t.id, t.title FROM Task t WHERE t.user.id = :userId AND t.isDeleted = false")
+    List<Object[]> findLiveTitlesByUserId(@Param("userId") UUID userId);
+
+    // Ownership check for bulk writes: ids that are not returned are missing, deleted or not the user's
+    @Query("SELECT t FROM Task t WHERE t.id IN :ids AND t.user.id = :userId AND t.isDeleted = false")
+    List<Task> findLiveByIdInAndUserId(@Param("ids") Collection<UUID> ids, @Param("userId") UUID userId);
 
     @Query("SELECT COUNT(t) FROM Task t WHERE t.project.id = :projectId AND t.isDeleted = false")
     Long countByProjectIdAndIsDeletedFalse(@Param("projectId") UUID projectId);
@@ -45,9 +90,43 @@ public interface TaskRepository extends JpaRepository<Task, UUID> {
     @Query("SELECT COUNT(t) FROM Task t WHERE t.project.id = :projectId AND t.dueDate < :currentDate AND t.status != 'DONE' AND t.isDeleted = false")
     Long countOverdueTasksByProjectId(@Param("projectId") UUID projectId, @Param("currentDate") LocalDateTime currentDate);
 
+    // Live tasks of a project counted no further than :limit, so a size check stays cheap on a huge project
+    @Query(value = "SELECT COUNT(*) FROM (SELECT 1 FROM tasks WHERE project_id = :projectId AND is_deleted = false LIMIT :limit) t",
+            nativeQuery = true)
+    long countLiveByProjectIdUpTo(@Param("projectId") UUID projectId, @Param("limit") int limit);
+
     @Modifying
     @Query("UPDATE Task t SET t.isDeleted = true, t.deletedAt = CURRENT_TIMESTAMP WHERE t.project.id = :projectId AND t.isDeleted = false")
-    void softDeleteByProjectId(@Param("projectId") UUID projectId);
+    int softDeleteByProjectId(@Param("projectId") UUID projectId);
+
+    // Tasks of a project being deleted keep their rows but let go of it, so the project row can be deleted alone
+    @Modifying
+    @Query("UPDATE Task t SET t.project = NULL WHERE t.project.id = :projectId")
+    int detachAllFromProject(@Param("projectId") UUID projectId);
+
+    // One step of a PROJECT_DELETE job: at most :limit tasks per statement keeps each
+    // transaction and its row locks short. Returns the number of tasks deleted.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tasks"))
+    @Query(value = """
+            UPDATE tasks SET is_deleted = true, deleted_at = CURRENT_TIMESTAMP
+            WHERE id IN (
+                SELECT id FROM tasks WHERE project_id = :projectId AND is_deleted = false LIMIT :limit
+            )
+            """, nativeQuery = true)
+    int softDeleteBatchByProjectId(@Param("projectId") UUID projectId, @Param("limit") int limit);
+
+    // Second step of a PROJECT_DELETE job, after every task is soft deleted: detaches
+    // at most :limit tasks per statement. Returns the number of tasks detached.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tasks"))
+    @Query(value = """
+            UPDATE tasks SET project_id = NULL
+            WHERE id IN (
+                SELECT id FROM tasks WHERE project_id = :projectId LIMIT :limit
+            )
+            """, nativeQuery = true)
+    int detachBatchFromProject(@Param("projectId") UUID projectId, @Param("limit") int limit);
 
     // Basic counts for dashboard summary
     @Query("SELECT COUNT(t) FROM Task t WHERE t.user.id = :userId AND t.isDeleted = false")
@@ -67,6 +146,13 @@ public interface TaskRepository extends JpaRepository<Task, UUID> {
     @Query("SELECT COUNT(t) FROM Task t WHERE t.user.id = :userId AND DATE(t.dueDate) = DATE(:today) AND t.status != 'DONE' AND t.isDeleted = false")
     Long countTasksDueToday(@Param("userId") UUID userId, @Param("today") LocalDateTime today);
 
+    // Open tasks due inside [from, to); used for the part of today that has already passed
+    @Query("SELECT COUNT(t) FROM Task t WHERE t.user.id = :userId AND t.isDeleted = false " +
+            "AND t.status != 'DONE' AND t.dueDate >= :from AND t.dueDate < :to")
+    Long countOpenTasksDueBetween(@Param("userId") UUID userId,
+                                  @Param("from") LocalDateTime from,
+                                  @Param("to") LocalDateTime to);
+
     // Task statistics for dashboard
     @Query("SELECT COUNT(t) FROM Task t WHERE t.user.id = :userId AND t.priority = :priority AND t.isDeleted = false")
     Long countByUserIdAndPriorityAndIsDeletedFalse(@Param("userId") UUID userId, @Param("priority") TaskPriority priority);
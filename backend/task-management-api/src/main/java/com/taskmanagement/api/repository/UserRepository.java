@@ -1,7 +1,10 @@
 package com.taskmanagement.api.repository;
 
 import com.taskmanagement.api.entity.User;
+import com.taskmanagement.api.security.UserAuthState;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -16,4 +19,9 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     Boolean existsByEmail(String email);
 
     Boolean existsByUsername(String username);
+
+    // Lightweight status lookup used to vet stateless (claims-based) principals
+    @Query("SELECT new com.taskmanagement.api.security.UserAuthState(u.id, u.isActive, u.emailVerified, u.tokenVersion) " +
+            "FROM User u WHERE u.id = :id")
+    Optional<UserAuthState> findAuthStateById(@Param("id") UUID id);
 }
@@ -0,0 +1,152 @@
+package com.taskmanagement.api.repository;
+
+import com.taskmanagement.api.entity.UserTaskStat;
+import com.taskmanagement.api.entity.UserTaskStatId;
+import com.taskmanagement.api.enums.TaskStatDimension;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface UserTaskStatRepository extends JpaRepository<UserTaskStat, UserTaskStatId> {
+
+    @Query("SELECT s FROM UserTaskStat s WHERE s.id.userId = :userId AND s.id.dimension IN :dimensions")
+    List<UserTaskStat> findByUserIdAndDimensions(@Param("userId") UUID userId,
+                                                 @Param("dimensions") Collection<TaskStatDimension> dimensions);
+
+    @Query("SELECT s FROM UserTaskStat s WHERE s.id.userId = :userId AND s.id.dimension IN :dimensions " +
+            "AND s.id.bucket >= :fromBucket ORDER BY s.id.bucket DESC")
+    List<UserTaskStat> findByUserIdAndDimensionsFrom(@Param("userId") UUID userId,
+                                                     @Param("dimensions") Collection<TaskStatDimension> dimensions,
+                                                     @Param("fromBucket") String fromBucket);
+
+    // Overdue before today and open tasks due today, read from the due-date bucket index
+    @Query(value = """
+            SELECT
+                COALESCE(SUM(task_count) FILTER (WHERE bucket < :today), 0) AS due_before_today,
+                COALESCE(SUM(task_count) FILTER (WHERE bucket = :today), 0) AS due_today
+            FROM user_task_stats
+            WHERE user_id = :userId
+                AND dimension = 'DUE_DAY_OPEN'
+                AND bucket <= :today
+            """, nativeQuery = true)
+    List<Object[]> sumOpenDueBucketsRaw(@Param("userId") UUID userId, @Param("today") String today);
+
+    // Relative, atomic change of one counter; creates the row on first use.
+    // The native spaces hint keeps Hibernate from clearing the whole second-level cache.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_task_stats"))
+    @Query(value = """
+            INSERT INTO user_task_stats (user_id, dimension, bucket, task_count)
+            VALUES (:userId, :dimension, :bucket, :delta)
+            ON CONFLICT (user_id, dimension, bucket)
+            DO UPDATE SET task_count = user_task_stats.task_count + EXCLUDED.task_count
+            """, nativeQuery = true)
+    void increment(@Param("userId") UUID userId,
+                   @Param("dimension") String dimension,
+                   @Param("bucket") String bucket,
+                   @Param("delta") long delta);
+
+    @Modifying
+    @Query("DELETE FROM UserTaskStat s WHERE s.id.userId = :userId")
+    void deleteByUserId(@Param("userId") UUID userId);
+
+    // Every dimension of one user's stats as recounted from the tasks table, without META
+    String RECOUNT_FOR_USER = """
+            SELECT 'STATUS' AS dimension, status AS bucket, COUNT(*) AS task_count
+            FROM tasks WHERE user_id = :userId AND is_deleted = false
+            GROUP BY status
+            UNION ALL
+            SELECT 'PRIORITY', priority, COUNT(*)
+            FROM tasks WHERE user_id = :userId AND is_deleted = false
+            GROUP BY priority
+            UNION ALL
+            SELECT 'CREATED_DAY', TO_CHAR(created_at, 'YYYY-MM-DD'), COUNT(*)
+            FROM tasks WHERE user_id = :userId AND is_deleted = false AND created_at IS NOT NULL
+            GROUP BY TO_CHAR(created_at, 'YYYY-MM-DD')
+            UNION ALL
+            SELECT 'CREATED_DAY_DONE', TO_CHAR(created_at, 'YYYY-MM-DD'), COUNT(*)
+            FROM tasks WHERE user_id = :userId AND is_deleted = false AND created_at IS NOT NULL AND status = 'DONE'
+            GROUP BY TO_CHAR(created_at, 'YYYY-MM-DD')
+            UNION ALL
+            SELECT 'DUE_DAY_OPEN', TO_CHAR(due_date, 'YYYY-MM-DD'), COUNT(*)
+            FROM tasks WHERE user_id = :userId AND is_deleted = false AND due_date IS NOT NULL AND status <> 'DONE'
+            GROUP BY TO_CHAR(due_date, 'YYYY-MM-DD')
+            """;
+
+    // Transaction-scoped lock on one user's stats. Rebuilds and incremental writers of the
+    // user take turns, so a rebuild's recount sees every write committed before it and
+    // a write that waited applies its delta on top of the rebuilt rows.
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(hashtext('user_task_stats'), hashtext(CAST(:userId AS text)))",
+            nativeQuery = true)
+    Integer lockForUser(@Param("userId") UUID userId);
+
+    // Recompute every dimension for one user from the tasks table
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_task_stats"))
+    @Query(value = "INSERT INTO user_task_stats (user_id, dimension, bucket, task_count) " +
+            "SELECT :userId, a.dimension, a.bucket, a.task_count FROM (" + RECOUNT_FOR_USER + ") a " +
+            "UNION ALL SELECT :userId, 'META', 'initialized', 1 " +
+            "ON CONFLICT (user_id, dimension, bucket) DO UPDATE SET task_count = EXCLUDED.task_count",
+            nativeQuery = true)
+    void rebuildForUser(@Param("userId") UUID userId);
+
+    // Buckets of one user whose stored count differs from the recount; a missing row counts as 0
+    @Query(value = "SELECT COUNT(*) FROM (" + RECOUNT_FOR_USER + ") a " +
+            "FULL JOIN (SELECT dimension, bucket, task_count FROM user_task_stats " +
+            "WHERE user_id = :userId AND dimension <> 'META') s " +
+            "ON s.dimension = a.dimension AND s.bucket = a.bucket " +
+            "WHERE COALESCE(a.task_count, 0) <> COALESCE(s.task_count, 0)",
+            nativeQuery = true)
+    long countDriftedBuckets(@Param("userId") UUID userId);
+
+    // Users with initialized stats where any stored bucket differs from a recount of all
+    // their tasks. Users without the META row are rebuilt on first read anyway.
+    @Query(value = """
+            WITH initialized AS (
+                SELECT user_id FROM user_task_stats WHERE dimension = 'META'
+            ),
+            live AS (
+                SELECT * FROM tasks WHERE is_deleted = false AND user_id IN (SELECT user_id FROM initialized)
+            ),
+            actual AS (
+                SELECT user_id, 'STATUS' AS dimension, status AS bucket, COUNT(*) AS task_count
+                FROM live GROUP BY user_id, status
+                UNION ALL
+                SELECT user_id, 'PRIORITY', priority, COUNT(*)
+                FROM live GROUP BY user_id, priority
+                UNION ALL
+                SELECT user_id, 'CREATED_DAY', TO_CHAR(created_at, 'YYYY-MM-DD'), COUNT(*)
+                FROM live WHERE created_at IS NOT NULL
+                GROUP BY user_id, TO_CHAR(created_at, 'YYYY-MM-DD')
+                UNION ALL
+                SELECT user_id, 'CREATED_DAY_DONE', TO_CHAR(created_at, 'YYYY-MM-DD'), COUNT(*)
+                FROM live WHERE created_at IS NOT NULL AND status = 'DONE'
+                GROUP BY user_id, TO_CHAR(created_at, 'YYYY-MM-DD')
+                UNION ALL
+                SELECT user_id, 'DUE_DAY_OPEN', TO_CHAR(due_date, 'YYYY-MM-DD'), COUNT(*)
+                FROM live WHERE due_date IS NOT NULL AND status <> 'DONE'
+                GROUP BY user_id, TO_CHAR(due_date, 'YYYY-MM-DD')
+            ),
+            stored AS (
+                SELECT user_id, dimension, bucket, task_count
+                FROM user_task_stats
+                WHERE dimension <> 'META' AND user_id IN (SELECT user_id FROM initialized)
+            )
+            SELECT DISTINCT COALESCE(a.user_id, s.user_id) AS user_id
+            FROM actual a
+            FULL JOIN stored s ON s.user_id = a.user_id AND s.dimension = a.dimension AND s.bucket = a.bucket
+            WHERE COALESCE(a.task_count, 0) <> COALESCE(s.task_count, 0)
+            ORDER BY user_id
+            """, nativeQuery = true)
+    List<UUID> findDriftedUserIds();
+}
@@ -0,0 +1,17 @@
+package com.taskmanagement.api.repository.projection;
+
+/**
+ * Per-user project counters produced by a single conditional-aggregation query.
+ */
+public record ProjectCountSummary(long total,
+                                  long withDeadline,
+                                  long overdue) {
+
+    public static ProjectCountSummary fromRow(Object[] row) {
+        return new ProjectCountSummary(
+                ((Number) row[0]).longValue(),
+                ((Number) row[1]).longValue(),
+                ((Number) row[2]).longValue()
+        );
+    }
+}
@@ -0,0 +1,47 @@
+package com.taskmanagement.api.repository.projection;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Project row with its denormalized task counters, so list endpoints never
+ * initialise the lazy {@code Project.tasks} collection or join the tasks table.
+ */
+public record ProjectListView(UUID id,
+                              String name,
+                              String description,
+                              String color,
+                              LocalDateTime deadline,
+                              LocalDateTime createdAt,
+                              LocalDateTime updatedAt,
+                              Integer taskCount,
+                              Integer completedTaskCount) {
+
+    public static final String SELECT = """
+            SELECT new com.taskmanagement.api.repository.projection.ProjectListView(
+                p.id, p.name, p.description, p.color, p.deadline, p.createdAt, p.updatedAt,
+                p.taskCount, p.completedTaskCount)
+            FROM Project p
+            """;
+
+    // Native-query counterpart of SELECT, same column order
+    public static ProjectListView fromRow(Object[] row) {
+        return new ProjectListView(
+                (UUID) row[0],
+                (String) row[1],
+                (String) row[2],
+                (String) row[3],
+                toLocalDateTime(row[4]),
+                toLocalDateTime(row[5]),
+                toLocalDateTime(row[6]),
+                row[7] != null ? ((Number) row[7]).intValue() : 0,
+                row[8] != null ? ((Number) row[8]).intValue() : 0
+        );
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) return timestamp.toLocalDateTime();
+        return (LocalDateTime) value;
+    }
+}
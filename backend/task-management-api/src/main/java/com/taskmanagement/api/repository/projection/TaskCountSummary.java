@@ -0,0 +1,11 @@
+package com.taskmanagement.api.repository.projection;
+
+/**
+ * Per-user task counters shown on the dashboard summary.
+ */
+public record TaskCountSummary(long total,
+                               long completed,
+                               long pending,
+                               long overdue,
+                               long dueToday) {
+}
@@ -0,0 +1,52 @@
+package com.taskmanagement.api.repository.projection;
+
+import com.taskmanagement.api.enums.TaskPriority;
+import com.taskmanagement.api.enums.TaskStatus;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Task row with its project's id and name, selected in one query so list
+ * endpoints never hydrate {@code Task} entities or their lazy associations.
+ */
+public record TaskListView(UUID id,
+                           String title,
+                           String description,
+                           TaskStatus status,
+                           TaskPriority priority,
+                           LocalDateTime dueDate,
+                           LocalDateTime createdAt,
+                           LocalDateTime updatedAt,
+                           LocalDateTime completedAt,
+                           UUID projectId,
+                           String projectName) {
+
+    // Column list shared by the native queries that map rows through fromRow
+    public static final String NATIVE_COLUMNS = """
+            t.id, t.title, t.description, t.status, t.priority, t.due_date,
+                t.created_at, t.updated_at, t.completed_at, p.id AS project_id, p.name AS project_name
+            """;
+
+    public static TaskListView fromRow(Object[] row) {
+        return new TaskListView(
+                (UUID) row[0],
+                (String) row[1],
+                (String) row[2],
+                TaskStatus.valueOf((String) row[3]),
+                TaskPriority.valueOf((String) row[4]),
+                toLocalDateTime(row[5]),
+                toLocalDateTime(row[6]),
+                toLocalDateTime(row[7]),
+                toLocalDateTime(row[8]),
+                (UUID) row[9],
+                (String) row[10]
+        );
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) return timestamp.toLocalDateTime();
+        return (LocalDateTime) value;
+    }
+}
@@ -0,0 +1,157 @@
+package com.taskmanagement.api.repository.specification;
+
+import com.taskmanagement.api.entity.Task;
+import com.taskmanagement.api.enums.TaskPriority;
+import com.taskmanagement.api.enums.TaskSortField;
+import com.taskmanagement.api.enums.TaskStatus;
+import com.taskmanagement.api.repository.TaskRepository;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Composable predicates for task list queries. Each filter is a no-op when its
+ * argument is null, so a request's filters can be AND-ed together unconditionally.
+ */
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    // Always applied first: matches the leading columns of the partial task indexes
+    public static Specification<Task> liveTasksOf(UUID userId) {
+        return (root, query, cb) -> cb.and(
+                cb.equal(root.get("user").get("id"), userId),
+                cb.isFalse(root.get("isDeleted")));
+    }
+
+    public static Specification<Task> hasStatus(TaskStatus status) {
+        return (root, query, cb) -> status == null ? null : cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Task> hasPriority(TaskPriority priority) {
+        return (root, query, cb) -> priority == null ? null : cb.equal(root.get("priority"), priority);
+    }
+
+    public static Specification<Task> inProject(UUID projectId) {
+        return (root, query, cb) -> projectId == null ? null : cb.equal(root.get("project").get("id"), projectId);
+    }
+
+    // Due on or after startDate and on or before endDate (whole days)
+    public static Specification<Task> dueBetween(LocalDate startDate, LocalDate endDate) {
+        return (root, query, cb) -> {
+            if (startDate == null && endDate == null) return null;
+            return cb.and(
+                    startDate != null
+                            ? cb.greaterThanOrEqualTo(root.get("dueDate"), startDate.atStartOfDay())
+                            : cb.conjunction(),
+                    endDate != null
+                            ? cb.lessThan(root.get("dueDate"), endDate.plusDays(1).atStartOfDay())
+                            : cb.conjunction());
+        };
+    }
+
+    public static Specification<Task> overdue(Boolean overdue, LocalDateTime now) {
+        return (root, query, cb) -> {
+            if (!Boolean.TRUE.equals(overdue)) return null;
+            return cb.and(
+                    cb.notEqual(root.get("status"), TaskStatus.DONE),
+                    cb.lessThan(root.get("dueDate"), now));
+        };
+    }
+
+    public static Specification<Task> dueToday(Boolean dueToday, LocalDate today) {
+        return (root, query, cb) -> {
+            if (!Boolean.TRUE.equals(dueToday)) return null;
+            return cb.and(
+                    cb.notEqual(root.get("status"), TaskStatus.DONE),
+                    cb.greaterThanOrEqualTo(root.get("dueDate"), today.atStartOfDay()),
+                    cb.lessThan(root.get("dueDate"), today.plusDays(1).atStartOfDay()));
+        };
+    }
+
+    // Full-text match against the indexed task_search_vector(title, description) expression
+    public static Specification<Task> matchesFullText(UUID userId, String search) {
+        return (root, query, cb) -> {
+            String tsQuery = TaskRepository.toPrefixTsQuery(search);
+            if (tsQuery.isEmpty()) return null;
+            HibernateCriteriaBuilder hcb = (HibernateCriteriaBuilder) cb;
+            return cb.isTrue(hcb.sql(
+                    "? IN (SELECT s.id FROM tasks s WHERE s.user_id = ? AND s.is_deleted = false " +
+                            "AND task_search_vector(s.title, s.description) @@ to_tsquery('simple', ?))",
+                    Boolean.class, root.get("id"), cb.literal(userId), cb.literal(tsQuery)));
+        };
+    }
+
+    // The old LOWER(...) LIKE '%term%' matching, kept for app.tasks.search.full-text=false
+    public static Specification<Task> containsText(String search) {
+        return (root, query, cb) -> {
+            if (search == null || search.isBlank()) return null;
+            String pattern = "%" + search.toLowerCase() + "%";
+            return cb.or(
+                    cb.like(cb.lower(root.get("title")), pattern),
+                    cb.like(cb.lower(root.get("description")), pattern));
+        };
+    }
+
+    /**
+     * Keyset seek: rows strictly after ({@code sortValue}, {@code id}) in the given order.
+     * Written as {@code key <= v AND (key < v OR id < lastId)} (mirrored for ascending)
+     * so the first conjunct bounds the index range scan.
+     */
+    public static Specification<Task> seekAfter(TaskSortField field, Sort.Direction direction,
+                                                Object sortValue, UUID id) {
+        return (root, query, cb) -> switch (field) {
+            case CREATED_AT, UPDATED_AT -> seek(cb, root.get(field.getProperty()), (LocalDateTime) sortValue,
+                    root.get("id"), id, direction);
+            case TITLE -> seek(cb, root.get("title"), (String) sortValue, root.get("id"), id, direction);
+            default -> throw new IllegalArgumentException("No keyset support for " + field);
+        };
+    }
+
+    private static <Y extends Comparable<? super Y>> Predicate seek(CriteriaBuilder cb,
+                                                                      Path<Y> key, Y value,
+                                                                      Path<UUID> idPath, UUID id,
+                                                                      Sort.Direction direction) {
+        if (direction.isAscending()) {
+            return cb.and(
+                    cb.greaterThanOrEqualTo(key, value),
+                    cb.or(cb.greaterThan(key, value), cb.greaterThan(idPath, id)));
+        }
+        return cb.and(
+                cb.lessThanOrEqualTo(key, value),
+                cb.or(cb.lessThan(key, value), cb.lessThan(idPath, id)));
+    }
+
+    /**
+     * Orders by a whitelisted field, then by id so pages are stable. Priority sorts
+     * by rank (LOW..CRITICAL) rather than by name. Count queries are left unordered.
+     */
+    public static Specification<Task> sortedBy(TaskSortField field, Sort.Direction direction) {
+        return (root, query, cb) -> {
+            if (Long.class.equals(query.getResultType())) return null;
+
+            Expression<?> key = root.get(field.getProperty());
+            if (field == TaskSortField.PRIORITY) {
+                key = cb.<TaskPriority, Integer>selectCase(root.get("priority"))
+                        .when(TaskPriority.LOW, 1)
+                        .when(TaskPriority.MEDIUM, 2)
+                        .when(TaskPriority.HIGH, 3)
+                        .when(TaskPriority.CRITICAL, 4)
+                        .otherwise(0);
+            }
+            query.orderBy(
+                    direction.isAscending() ? cb.asc(key) : cb.desc(key),
+                    direction.isAscending() ? cb.asc(root.get("id")) : cb.desc(root.get("id")));
+            return null;
+        };
+    }
+}
@@ -0,0 +1,62 @@
+package com.taskmanagement.api.security;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Immutable view of a token whose signature has already been verified.
+ * Built once per request by {@link JwtTokenProvider#parseAndVerify(String)} so
+ * callers never need to re-parse the raw token to read another claim.
+ */
+public record JwtClaims(String username,
+                        UUID userId,
+                        String email,
+                        String fullName,
+                        List<String> roles,
+                        String type,
+                        String tokenId,
+                        Integer tokenVersion,
+                        Instant issuedAt,
+                        Instant expiresAt) {
+
+    public static final String TYPE_ACCESS = "access";
+    public static final String TYPE_REFRESH = "refresh";
+
+    static JwtClaims from(Claims claims) {
+        String userId = claims.get("userId", String.class);
+        return new JwtClaims(
+                claims.getSubject(),
+                userId != null ? UUID.fromString(userId) : null,
+                claims.get("email", String.class),
+                claims.get("fullName", String.class),
+                toRoles(claims.get("roles")),
+                claims.get("type", String.class),
+                claims.get("jti", String.class),
+                claims.get("tokenVersion", Integer.class),
+                toInstant(claims.getIssuedAt()),
+                toInstant(claims.getExpiration())
+        );
+    }
+
+    public boolean isAccessToken() {
+        return TYPE_ACCESS.equals(type);
+    }
+
+    public boolean isRefreshToken() {
+        return TYPE_REFRESH.equals(type);
+    }
+
+    private static List<String> toRoles(Object roles) {
+        if (!(roles instanceof Collection<?> values)) return List.of();
+        return values.stream().map(String::valueOf).toList();
+    }
+
+    private static Instant toInstant(Date date) {
+        return date != null ? date.toInstant() : null;
+    }
+}
@@ -10,10 +10,10 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -28,6 +28,10 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserDetailsServiceImpl userDetailsService;
+    private final UserAuthStateCache userAuthStateCache;
+
+    @Value("${app.security.stateless-principal:false}")
+    private boolean statelessPrincipal;
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request,
@@ -37,18 +41,18 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-                String username = jwtTokenProvider.getUsernameFromToken(jwt);
+            JwtClaims claims = StringUtils.hasText(jwt) ? jwtTokenProvider.verify(jwt).orElse(null) : null;
 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            UserPrincipal principal = claims != null ? resolvePrincipal(claims) : null;
 
+            if (principal != null) {
                 UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                        new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
 
-                log.debug("Security context set for user: {}", username);
+                log.debug("Security context set for user: {}", principal.getUsername());
             }
         } catch (ExpiredJwtException ex) {
             log.error("JWT token is expired: {}", ex.getMessage());
@@ -73,6 +77,34 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private UserPrincipal resolvePrincipal(JwtClaims claims) {
+        UserPrincipal principal;
+        UserAuthState state;
+
+        if (statelessPrincipal) {
+            // Build the principal from the signed claims; only the status check may hit the database
+            if (!claims.isAccessToken()) {
+                log.debug("Rejected non-access token for user: {}", claims.username());
+                return null;
+            }
+            state = userAuthStateCache.get(claims.userId()).orElse(null);
+            if (state == null) {
+                log.debug("No user found for token subject: {}", claims.username());
+                return null;
+            }
+            principal = UserPrincipal.fromClaims(claims, state);
+        } else {
+            principal = (UserPrincipal) userDetailsService.loadUserByUsername(claims.username());
+            state = UserAuthState.of(principal.getUser());
+        }
+
+        if (!state.permits(claims)) {
+            log.debug("Token for user {} is revoked or the account is inactive", claims.username());
+            return null;
+        }
+        return principal;
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
@@ -9,9 +9,11 @@ import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 @Component
@@ -22,6 +24,8 @@ public class JwtTokenProvider {
     private final long jwtExpirationMs;
     private final long refreshJwtExpirationMs;
     private final SecretKey key;
+    // JwtParser is immutable and thread-safe, so one instance serves every request
+    private final JwtParser jwtParser;
 
     public JwtTokenProvider(@Value("${jwt.secret}") String jwtSecret,
                             @Value("${jwt.expiration}") long jwtExpirationMs,
@@ -31,6 +35,9 @@ public class JwtTokenProvider {
         this.refreshJwtExpirationMs = refreshJwtExpirationMs;
         // Generate a secure key automatically
         this.key = Keys.secretKeyFor(SignatureAlgorithm.HS512);
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
     public String generateAccessToken(Authentication authentication) {
@@ -46,7 +53,9 @@ public class JwtTokenProvider {
         claims.put("userId", user.getId().toString());
         claims.put("email", user.getEmail());
         claims.put("fullName", user.getFullName());
-        claims.put("type", "access");
+        claims.put("roles", UserPrincipal.DEFAULT_ROLES);
+        claims.put("type", JwtClaims.TYPE_ACCESS);
+        claims.put("tokenVersion", user.getTokenVersion());
 
         return Jwts.builder()
                 .setClaims(claims)
@@ -63,7 +72,7 @@ public class JwtTokenProvider {
 
         Map<String, Object> claims = new HashMap<>();
         claims.put("userId", user.getId().toString());
-        claims.put("type", "refresh");
+        claims.put("type", JwtClaims.TYPE_REFRESH);
         claims.put("jti", UUID.randomUUID().toString()); // Unique token ID
 
         return Jwts.builder()
@@ -75,59 +84,53 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    /**
+     * Verifies the signature and expiry of {@code token} exactly once and returns
+     * the decoded claims. Failures surface as the usual {@link JwtException}
+     * subtypes so callers can map them to specific error responses.
+     */
+    public JwtClaims parseAndVerify(String token) {
+        return JwtClaims.from(jwtParser.parseClaimsJws(token).getBody());
+    }
+
+    /**
+     * Lenient variant of {@link #parseAndVerify(String)} with the same logging
+     * and swallowing behaviour as {@link #validateToken(String)}.
+     */
+    public Optional<JwtClaims> verify(String token) {
+        try {
+            return Optional.of(parseAndVerify(token));
+        } catch (MalformedJwtException ex) {
+            log.error("Invalid JWT token: {}", ex.getMessage());
+        } catch (ExpiredJwtException ex) {
+            log.error("JWT token is expired: {}", ex.getMessage());
+        } catch (UnsupportedJwtException ex) {
+            log.error("JWT token is unsupported: {}", ex.getMessage());
+        } catch (IllegalArgumentException ex) {
+            log.error("JWT claims string is empty: {}", ex.getMessage());
+        }
+        return Optional.empty();
+    }
+
     public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.getSubject();
+        return parseAndVerify(token).username();
     }
 
     public UUID getUserIdFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return UUID.fromString(claims.get("userId", String.class));
+        return parseAndVerify(token).userId();
     }
 
     public String getTokenType(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.get("type", String.class);
+        return parseAndVerify(token).type();
     }
 
     public Date getExpirationDateFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.getExpiration();
+        Instant expiresAt = parseAndVerify(token).expiresAt();
+        return expiresAt != null ? Date.from(expiresAt) : null;
     }
 
     public boolean validateToken(String authToken) {
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(authToken);
-            return true;
-        } catch (MalformedJwtException ex) {
-            log.error("Invalid JWT token: {}", ex.getMessage());
-        } catch (ExpiredJwtException ex) {
-            log.error("JWT token is expired: {}", ex.getMessage());
-        } catch (UnsupportedJwtException ex) {
-            log.error("JWT token is unsupported: {}", ex.getMessage());
-        } catch (IllegalArgumentException ex) {
-            log.error("JWT claims string is empty: {}", ex.getMessage());
-        }
-        return false;
+        return verify(authToken).isPresent();
     }
 
     public boolean isTokenExpired(String token) {
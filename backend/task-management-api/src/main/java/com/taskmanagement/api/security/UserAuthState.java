@@ -0,0 +1,29 @@
+package com.taskmanagement.api.security;
+
+import com.taskmanagement.api.entity.User;
+
+import java.util.UUID;
+
+/**
+ * The mutable part of a user's security state that a signed token cannot carry:
+ * whether the account is still active and which token version is current.
+ */
+public record UserAuthState(UUID userId,
+                            Boolean isActive,
+                            Boolean emailVerified,
+                            Integer tokenVersion) {
+
+    public static UserAuthState of(User user) {
+        return new UserAuthState(user.getId(), user.getIsActive(), user.getEmailVerified(), user.getTokenVersion());
+    }
+
+    public boolean isRevoked(Integer tokenVersionClaim) {
+        // Tokens from before the claim existed count as version 0
+        int issuedUnder = tokenVersionClaim != null ? tokenVersionClaim : 0;
+        return issuedUnder < (tokenVersion != null ? tokenVersion : 0);
+    }
+
+    public boolean permits(JwtClaims claims) {
+        return Boolean.TRUE.equals(isActive) && !isRevoked(claims.tokenVersion());
+    }
+}
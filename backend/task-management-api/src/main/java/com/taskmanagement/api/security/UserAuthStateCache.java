@@ -0,0 +1,55 @@
+package com.taskmanagement.api.security;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.taskmanagement.api.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Small bounded cache of {@link UserAuthState} keyed by user id. Entries expire
+ * quickly so that deactivation or logout on another node is picked up within the
+ * configured window; local changes call {@link #evict(UUID)} immediately.
+ */
+@Component
+@Slf4j
+public class UserAuthStateCache {
+
+    private final LoadingCache<UUID, Optional<UserAuthState>> cache;
+
+    public UserAuthStateCache(UserRepository userRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.security.auth-state-cache.maximum-size:10000}") long maximumSize,
+                              @Value("${app.security.auth-state-cache.expire-after-write:30s}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build(userRepository::findAuthStateById);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userAuthState");
+    }
+
+    public Optional<UserAuthState> get(UUID userId) {
+        return userId != null ? cache.get(userId) : Optional.empty();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserSecurityChanged(UserSecurityChangedEvent event) {
+        evict(event.userId());
+    }
+
+    public void evict(UUID userId) {
+        if (userId != null) {
+            cache.invalidate(userId);
+            log.debug("Evicted auth state for user: {}", userId);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.taskmanagement.api.security;
+
+import java.util.UUID;
+
+/**
+ * Published when a user's active flag, password, verification or token revocation
+ * changes, so that cached principals and auth state for that user are dropped.
+ */
+public record UserSecurityChangedEvent(UUID userId, String username) {
+}
@@ -0,0 +1,43 @@
+package com.taskmanagement.api.security;
+
+import com.taskmanagement.api.entity.User;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA listener on {@link User} that turns changes to security-relevant columns
+ * into {@link UserSecurityChangedEvent}s. Routine updates such as
+ * {@code lastLoginAt} leave the fingerprint untouched and publish nothing.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserSecurityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostLoad
+    @PostPersist
+    public void captureSecurityState(User user) {
+        user.setLoadedSecurityState(user.getSecurityState());
+    }
+
+    @PostUpdate
+    public void publishIfSecurityStateChanged(User user) {
+        Integer loaded = user.getLoadedSecurityState();
+        int current = user.getSecurityState();
+        if (loaded == null || loaded != current) {
+            eventPublisher.publishEvent(new UserSecurityChangedEvent(user.getId(), user.getUsername()));
+        }
+        user.setLoadedSecurityState(current);
+    }
+
+    @PostRemove
+    public void publishRemoval(User user) {
+        eventPublisher.publishEvent(new UserSecurityChangedEvent(user.getId(), user.getUsername()));
+    }
+}
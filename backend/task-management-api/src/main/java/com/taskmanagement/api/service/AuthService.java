@@ -12,6 +12,7 @@ import com.taskmanagement.api.exception.UserAlreadyExistsException;
 import com.taskmanagement.api.exception.UserNotFoundException;
 import com.taskmanagement.api.repository.UserRepository;
 import com.taskmanagement.api.repository.UserSessionRepository;
+import com.taskmanagement.api.security.JwtClaims;
 import com.taskmanagement.api.security.JwtTokenProvider;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
@@ -46,18 +47,16 @@ public class AuthService {
         String refreshToken = request.getRefreshToken();
 
         // Validate refresh token format and signature
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
-            throw new InvalidCredentialsException("Invalid refresh token");
-        }
+        JwtClaims claims = jwtTokenProvider.verify(refreshToken)
+                .orElseThrow(() -> new InvalidCredentialsException("Invalid refresh token"));
 
         // Check if it's actually a refresh token
-        String tokenType = jwtTokenProvider.getTokenType(refreshToken);
-        if (!"refresh".equals(tokenType)) {
+        if (!claims.isRefreshToken()) {
             throw new InvalidCredentialsException("Invalid token type");
         }
 
         // Get user from token
-        String username = jwtTokenProvider.getUsernameFromToken(refreshToken);
+        String username = claims.username();
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UserNotFoundException("User not found"));
 
@@ -97,14 +96,22 @@ public class AuthService {
     public MessageResponse logout(HttpServletRequest request) {
         String jwt = getJwtFromRequest(request);
 
-        if (jwt != null && jwtTokenProvider.validateToken(jwt)) {
-            UUID userId = jwtTokenProvider.getUserIdFromToken(jwt);
+        JwtClaims claims = jwt != null ? jwtTokenProvider.verify(jwt).orElse(null) : null;
+
+        if (claims != null) {
+            UUID userId = claims.userId();
 
             // Invalidate all refresh tokens for this user
             List<UserSession> sessions = userSessionRepository.findByUserIdAndIsActiveTrue(userId);
             sessions.forEach(session -> session.setIsActive(false));
             userSessionRepository.saveAll(sessions);
 
+            // Revoke access tokens issued so far; cached principals are evicted via UserSecurityChangedEvent
+            userRepository.findById(userId).ifPresent(user -> {
+                user.revokeTokens();
+                userRepository.save(user);
+            });
+
             log.info("User logged out successfully: {}", userId);
         }
 
@@ -211,21 +218,21 @@ public class AuthService {
             }
 
             // Invalid token structure/signature
-            if (!jwtTokenProvider.validateToken(jwt)) {
+            JwtClaims claims = jwtTokenProvider.verify(jwt).orElse(null);
+            if (claims == null) {
                 log.debug("Invalid JWT token in optional auth request from: {}", clientInfo);
                 return OptionalAuthResponse.unauthorized("Invalid or expired token");
             }
 
             // Check token type (should be access token, not refresh token)
-            String tokenType = jwtTokenProvider.getTokenType(jwt);
-            if (!"access".equals(tokenType)) {
-                log.debug("Wrong token type '{}' in optional auth request from: {}", tokenType, clientInfo);
+            if (!claims.isAccessToken()) {
+                log.debug("Wrong token type '{}' in optional auth request from: {}", claims.type(), clientInfo);
                 return OptionalAuthResponse.badRequest("Invalid token type - expected access token");
             }
 
             // Extract user information
-            String username = jwtTokenProvider.getUsernameFromToken(jwt);
-            UUID userId = jwtTokenProvider.getUserIdFromToken(jwt);
+            String username = claims.username();
+            UUID userId = claims.userId();
 
             log.debug("Processing optional auth for user: {} (ID: {}) from: {}", username, userId, clientInfo);
 
@@ -0,0 +1,136 @@
+package com.taskmanagement.api.service;
+
+import com.taskmanagement.api.dto.request.BulkTaskOperation;
+import com.taskmanagement.api.dto.request.BulkTaskRequest;
+import com.taskmanagement.api.dto.response.BulkTaskResponse;
+import com.taskmanagement.api.dto.response.BulkTaskResult;
+import com.taskmanagement.api.entity.Project;
+import com.taskmanagement.api.entity.Task;
+import com.taskmanagement.api.enums.BulkTaskAction;
+import com.taskmanagement.api.enums.BulkTaskResultStatus;
+import com.taskmanagement.api.event.TaskBatchChangedEvent;
+import com.taskmanagement.api.event.TaskChangedEvent;
+import com.taskmanagement.api.event.TaskSnapshot;
+import com.taskmanagement.api.repository.ProjectRepository;
+import com.taskmanagement.api.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Applies many task operations in one transaction. Ownership of every task and
+ * target project is checked with one {@code IN (...)} query each; the changes are
+ * written by Hibernate at commit as JDBC-batched UPDATEs, and derived counters are
+ * adjusted once for the whole batch through {@link TaskBatchChangedEvent}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BulkTaskService {
+
+    // Rows per JDBC batch for the flush at commit, independent of the profile's default
+    private static final int JDBC_BATCH_SIZE = 50;
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional
+    public BulkTaskResponse apply(UUID userId, BulkTaskRequest request) {
+        List<BulkTaskOperation> operations = request.getOperations();
+        entityManager.unwrap(Session.class).setJdbcBatchSize(JDBC_BATCH_SIZE);
+
+        Set<UUID> taskIds = operations.stream()
+                .map(BulkTaskOperation::getTaskId)
+                .collect(Collectors.toSet());
+        Map<UUID, Task> tasks = taskRepository.findLiveByIdInAndUserId(taskIds, userId).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        Set<UUID> projectIds = operations.stream()
+                .filter(op -> op.getAction() == BulkTaskAction.MOVE_TO_PROJECT && op.getProjectId() != null)
+                .map(BulkTaskOperation::getProjectId)
+                .collect(Collectors.toSet());
+        Map<UUID, Project> projects = projectIds.isEmpty() ? Map.of()
+                : projectRepository.findByIdInAndUserId(projectIds, userId).stream()
+                        .collect(Collectors.toMap(Project::getId, Function.identity()));
+
+        // First snapshot per task, so several operations on one task make a single change
+        Map<UUID, TaskSnapshot> before = new LinkedHashMap<>();
+        List<BulkTaskResult> results = new ArrayList<>(operations.size());
+        for (BulkTaskOperation operation : operations) {
+            Task task = tasks.get(operation.getTaskId());
+            if (task == null || Boolean.TRUE.equals(task.getIsDeleted())) {
+                results.add(result(operation, BulkTaskResultStatus.NOT_FOUND, "Task not found"));
+                continue;
+            }
+            BulkTaskResult rejected = reject(operation, projects);
+            if (rejected != null) {
+                results.add(rejected);
+                continue;
+            }
+            before.putIfAbsent(task.getId(), TaskSnapshot.of(task));
+            applyTo(task, operation, projects);
+            results.add(result(operation, BulkTaskResultStatus.SUCCESS, null));
+        }
+
+        if (!before.isEmpty()) {
+            List<TaskChangedEvent> changes = before.entrySet().stream()
+                    .map(entry -> new TaskChangedEvent(entry.getValue(), TaskSnapshot.of(tasks.get(entry.getKey()))))
+                    .toList();
+            eventPublisher.publishEvent(new TaskBatchChangedEvent(changes));
+        }
+
+        int succeeded = (int) results.stream().filter(r -> r.getStatus() == BulkTaskResultStatus.SUCCESS).count();
+        log.info("Bulk task update for user {}: {} operations, {} succeeded, {} tasks changed",
+                userId, operations.size(), succeeded, before.size());
+        return BulkTaskResponse.builder()
+                .succeeded(succeeded)
+                .failed(results.size() - succeeded)
+                .results(results)
+                .build();
+    }
+
+    // The failed result when the operation cannot be applied, or null
+    private static BulkTaskResult reject(BulkTaskOperation operation, Map<UUID, Project> projects) {
+        return switch (operation.getAction()) {
+            case SET_STATUS -> operation.getStatus() == null
+                    ? result(operation, BulkTaskResultStatus.INVALID, "status is required for SET_STATUS") : null;
+            case SET_PRIORITY -> operation.getPriority() == null
+                    ? result(operation, BulkTaskResultStatus.INVALID, "priority is required for SET_PRIORITY") : null;
+            case MOVE_TO_PROJECT -> operation.getProjectId() != null && !projects.containsKey(operation.getProjectId())
+                    ? result(operation, BulkTaskResultStatus.NOT_FOUND, "Project not found") : null;
+            case DELETE -> null;
+        };
+    }
+
+    private static void applyTo(Task task, BulkTaskOperation operation, Map<UUID, Project> projects) {
+        switch (operation.getAction()) {
+            case SET_STATUS -> task.changeStatus(operation.getStatus());
+            case SET_PRIORITY -> task.setPriority(operation.getPriority());
+            case MOVE_TO_PROJECT -> task.setProject(
+                    operation.getProjectId() != null ? projects.get(operation.getProjectId()) : null);
+            case DELETE -> task.softDelete();
+        }
+    }
+
+    private static BulkTaskResult result(BulkTaskOperation operation, BulkTaskResultStatus status, String message) {
+        return BulkTaskResult.builder()
+                .taskId(operation.getTaskId())
+                .action(operation.getAction())
+                .status(status)
+                .message(message)
+                .build();
+    }
+}
@@ -1,10 +1,10 @@
 package com.taskmanagement.api.service;
 
 import com.taskmanagement.api.dto.response.*;
-import com.taskmanagement.api.enums.TaskPriority;
-import com.taskmanagement.api.enums.TaskStatus;
 import com.taskmanagement.api.repository.ProjectRepository;
 import com.taskmanagement.api.repository.TaskRepository;
+import com.taskmanagement.api.repository.projection.ProjectCountSummary;
+import com.taskmanagement.api.repository.projection.TaskCountSummary;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -21,38 +21,32 @@ public class DashboardService {
 
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
+    private final UserTaskStatsService userTaskStatsService;
 
     @Transactional(readOnly = true)
     public DashboardSummaryResponse getDashboardSummary(UUID userId) {
         log.debug("Generating dashboard summary for user: {}", userId);
 
-        // Task statistics
-        Long totalTasks = taskRepository.countByUserIdAndIsDeletedFalse(userId);
-        Long completedTasks = taskRepository.countByUserIdAndStatusAndIsDeletedFalse(userId, TaskStatus.DONE);
-        Long pendingTasks = taskRepository.countByUserIdAndStatusNotAndIsDeletedFalse(userId, TaskStatus.DONE);
-        Long overdueTasks = taskRepository.countByUserIdAndDueDateBeforeAndStatusNotAndIsDeletedFalse(
-                userId, LocalDateTime.now(), TaskStatus.DONE);
-        Long dueTodayTasks = taskRepository.countTasksDueToday(userId, LocalDateTime.now());
+        LocalDateTime now = LocalDateTime.now();
 
-        // Project statistics
-        Long totalProjects = projectRepository.countByUserId(userId);
-        Long projectsWithDeadlines = projectRepository.countByUserIdAndDeadlineIsNotNull(userId);
-        Long overdueProjects = projectRepository.countByUserIdAndDeadlineBefore(userId, LocalDateTime.now());
+        // Task counts come from the per-user stats table, never from a scan of tasks
+        TaskCountSummary tasks = userTaskStatsService.getTaskCountSummary(userId, now);
+        ProjectCountSummary projects = projectRepository.getProjectCountSummary(userId, now);
 
         // Calculate completion rate
-        double completionRate = totalTasks > 0 ? (completedTasks * 100.0) / totalTasks : 0.0;
+        double completionRate = tasks.total() > 0 ? (tasks.completed() * 100.0) / tasks.total() : 0.0;
 
         return DashboardSummaryResponse.builder()
-                .totalTasks(totalTasks.intValue())
-                .completedTasks(completedTasks.intValue())
-                .pendingTasks(pendingTasks.intValue())
-                .overdueTasks(overdueTasks.intValue())
-                .dueTodayTasks(dueTodayTasks.intValue())
-                .totalProjects(totalProjects.intValue())
-                .projectsWithDeadlines(projectsWithDeadlines.intValue())
-                .overdueProjects(overdueProjects.intValue())
+                .totalTasks((int) tasks.total())
+                .completedTasks((int) tasks.completed())
+                .pendingTasks((int) tasks.pending())
+                .overdueTasks((int) tasks.overdue())
+                .dueTodayTasks((int) tasks.dueToday())
+                .totalProjects((int) projects.total())
+                .projectsWithDeadlines((int) projects.withDeadline())
+                .overdueProjects((int) projects.overdue())
                 .completionRate(Math.round(completionRate * 100.0) / 100.0)
-                .generatedAt(LocalDateTime.now())
+                .generatedAt(now)
                 .build();
     }
 
@@ -60,24 +54,14 @@ public class DashboardService {
     public TaskStatsResponse getTaskStatistics(UUID userId, int days) {
         LocalDateTime startDate = LocalDateTime.now().minusDays(days);
 
-        Map<TaskStatus, Long> statusCounts = Arrays.stream(TaskStatus.values())
-                .collect(Collectors.toMap(
-                        status -> status,
-                        status -> taskRepository.countByUserIdAndStatusAndIsDeletedFalse(userId, status)
-                ));
-
-        Map<TaskPriority, Long> priorityCounts = Arrays.stream(TaskPriority.values())
-                .collect(Collectors.toMap(
-                        priority -> priority,
-                        priority -> taskRepository.countByUserIdAndPriorityAndIsDeletedFalse(userId, priority)
-                ));
+        UserTaskStatsService.TaskHistogram histogram = userTaskStatsService.getHistogram(userId);
 
         // Daily task completion trend
-        List<DailyTaskStats> dailyStats = taskRepository.getDailyTaskCompletionStats(userId, startDate);
+        List<DailyTaskStats> dailyStats = userTaskStatsService.getDailyStats(userId, startDate.toLocalDate());
 
         return TaskStatsResponse.builder()
-                .statusCounts(statusCounts)
-                .priorityCounts(priorityCounts)
+                .statusCounts(histogram.statusCounts())
+                .priorityCounts(histogram.priorityCounts())
                 .dailyStats(dailyStats)
                 .periodDays(days)
                 .build();
@@ -109,12 +93,12 @@ public class DashboardService {
                     UUID projectId = (UUID) data[0];
                     String projectName = (String) data[1];
                     String projectColor = (String) data[2];
-                    Long totalTasksLong = (Long) data[3];
-                    Long completedTasksLong = (Long) data[4];
+                    Integer totalTasksCount = (Integer) data[3];
+                    Integer completedTasksCount = (Integer) data[4];
                     LocalDateTime deadline = (LocalDateTime) data[5];
 
-                    int totalTasks = totalTasksLong != null ? totalTasksLong.intValue() : 0;
-                    int completedTasks = completedTasksLong != null ? completedTasksLong.intValue() : 0;
+                    int totalTasks = totalTasksCount != null ? totalTasksCount : 0;
+                    int completedTasks = completedTasksCount != null ? completedTasksCount : 0;
                     double progressPercentage = totalTasks > 0 ? (completedTasks * 100.0) / totalTasks : 0.0;
 
                     boolean isOverdue = deadline != null && LocalDateTime.now().isAfter(deadline);
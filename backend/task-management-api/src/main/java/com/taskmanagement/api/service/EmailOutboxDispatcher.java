@@ -0,0 +1,268 @@
+package com.taskmanagement.api.service;
+
+import com.taskmanagement.api.entity.OutboxEmail;
+import com.taskmanagement.api.enums.OutboxEmailStatus;
+import com.taskmanagement.api.repository.OutboxEmailRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers the {@code email_outbox}. Each poll claims a batch of due emails with
+ * {@code FOR UPDATE SKIP LOCKED} (so every node can dispatch) and leases them by
+ * pushing {@code next_attempt_at} forward, renders them with {@link EmailRenderer}
+ * and sends the whole batch over one SMTP connection outside any transaction.
+ * Failed emails are retried with exponential backoff and become DEAD after
+ * {@code max-attempts}; an email whose template cannot be rendered is
+ * dead-lettered at once.
+ *
+ * <p>Polls run on a thread of their own, never on the shared {@code @Scheduled}
+ * thread, and send at most {@code max-batches-per-poll} batches each.</p>
+ *
+ * <p>Delivery is at least once: if a node stops mid-batch, its emails are sent
+ * again when the lease runs out.</p>
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "app.mail.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class EmailOutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxEmailRepository outboxRepository;
+    private final JavaMailSender mailSender;
+    private final EmailRenderer renderer;
+    private final TransactionTemplate transaction;
+    private final int batchSize;
+    private final int maxBatchesPerPoll;
+    private final Duration pollInterval;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration backoff;
+    private final Duration maxBackoff;
+    private final Duration retention;
+    private final ScheduledExecutorService poller;
+
+    private final AtomicLong pending = new AtomicLong();
+    private final Timer batchSendTimer;
+    private final Timer deliveryDelayTimer;
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter deadCounter;
+
+    public EmailOutboxDispatcher(OutboxEmailRepository outboxRepository,
+                                 JavaMailSender mailSender,
+                                 EmailRenderer renderer,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.mail.outbox.poll-interval:PT5S}") Duration pollInterval,
+                                 @Value("${app.mail.outbox.batch-size:50}") int batchSize,
+                                 @Value("${app.mail.outbox.max-batches-per-poll:20}") int maxBatchesPerPoll,
+                                 @Value("${app.mail.outbox.max-attempts:8}") int maxAttempts,
+                                 @Value("${app.mail.outbox.lease:PT10M}") Duration lease,
+                                 @Value("${app.mail.outbox.backoff:PT30S}") Duration backoff,
+                                 @Value("${app.mail.outbox.max-backoff:PT1H}") Duration maxBackoff,
+                                 @Value("${app.mail.outbox.retention:P7D}") Duration retention) {
+        this.outboxRepository = outboxRepository;
+        this.mailSender = mailSender;
+        this.renderer = renderer;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.pollInterval = pollInterval;
+        this.batchSize = batchSize;
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+        this.maxAttempts = maxAttempts;
+        this.lease = lease;
+        this.backoff = backoff;
+        this.maxBackoff = maxBackoff;
+        this.retention = retention;
+        // SMTP round trips must not hold up the other @Scheduled tasks (job heartbeats among them)
+        this.poller = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("email-outbox").daemon().factory());
+
+        Gauge.builder("email.outbox.pending", pending, AtomicLong::get)
+                .description("Emails waiting in the outbox, including those waiting for a retry")
+                .register(meterRegistry);
+        this.batchSendTimer = Timer.builder("email.outbox.batch.send")
+                .description("Time to send one batch over a single SMTP connection")
+                .register(meterRegistry);
+        this.deliveryDelayTimer = Timer.builder("email.outbox.delivery.delay")
+                .description("Time from queueing an email to its successful delivery")
+                .register(meterRegistry);
+        this.sentCounter = outcomeCounter(meterRegistry, "sent");
+        this.retriedCounter = outcomeCounter(meterRegistry, "retry");
+        this.deadCounter = outcomeCounter(meterRegistry, "dead");
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("email.outbox.attempts")
+                .description("Delivery attempts by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        long interval = pollInterval.toMillis();
+        poller.scheduleWithFixedDelay(() -> {
+            try {
+                dispatch();
+            } catch (RuntimeException e) {
+                // A thrown exception would cancel all later polls
+                log.warn("Outbox dispatch failed: {}", e.getMessage());
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // An interrupted batch stays leased and is sent again when the lease runs out
+        poller.shutdownNow();
+    }
+
+    /**
+     * Sends batches until no full batch is due or {@code max-batches-per-poll} were
+     * sent, then refreshes the queue-depth gauge. Runs every {@code poll-interval}
+     * on the outbox thread.
+     */
+    public void dispatch() {
+        try {
+            int batches = 1;
+            while (dispatchBatch() == batchSize && batches++ < maxBatchesPerPoll) {
+                log.debug("Outbox batch was full; sending the next one");
+            }
+        } finally {
+            pending.set(outboxRepository.countByStatus(OutboxEmailStatus.PENDING));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "PT1H", initialDelayString = "PT10M")
+    public void purgeSent() {
+        int purged = transaction.execute(status -> outboxRepository.deleteSentBefore(LocalDateTime.now().minus(retention)));
+        if (purged > 0) {
+            log.debug("Purged {} sent emails from the outbox", purged);
+        }
+    }
+
+    private int dispatchBatch() {
+        List<OutboxEmail> batch = transaction.execute(status -> claim());
+        if (batch.isEmpty()) return 0;
+
+        // Build every message first; one that cannot be rendered would fail on every attempt
+        Map<MimeMessage, OutboxEmail> messages = new LinkedHashMap<>();
+        Map<UUID, String> unrenderable = new LinkedHashMap<>();
+        for (EmailRenderer.Rendered rendered : renderer.renderAll(batch)) {
+            if (rendered.message() != null) {
+                messages.put(rendered.message(), rendered.email());
+            } else {
+                unrenderable.put(rendered.email().getId(), rendered.error());
+            }
+        }
+
+        Map<UUID, String> failed = new LinkedHashMap<>();
+        if (!messages.isEmpty()) {
+            Timer.Sample sample = Timer.start();
+            try {
+                // JavaMailSender sends an array over one transport connection
+                mailSender.send(messages.keySet().toArray(MimeMessage[]::new));
+            } catch (MailSendException e) {
+                // Only the listed messages failed; an empty map means all were sent and closing failed
+                e.getFailedMessages().forEach((message, cause) -> {
+                    OutboxEmail email = messages.get(message);
+                    if (email != null) failed.put(email.getId(), cause.getMessage());
+                });
+            } catch (MailException e) {
+                // Authentication or configuration: treat the whole batch as unsent
+                messages.values().forEach(email -> failed.put(email.getId(), e.getMessage()));
+            } finally {
+                sample.stop(batchSendTimer);
+            }
+        }
+
+        record(batch, failed, unrenderable);
+        return batch.size();
+    }
+
+    private List<OutboxEmail> claim() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEmail> due = outboxRepository.lockDue(now, batchSize);
+        for (OutboxEmail email : due) {
+            email.setAttempts(email.getAttempts() + 1);
+            // The lease: other nodes skip the email until it runs out
+            email.setNextAttemptAt(now.plus(lease));
+        }
+        return due;
+    }
+
+    private void record(List<OutboxEmail> batch, Map<UUID, String> failed, Map<UUID, String> unrenderable) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEmail> sent = batch.stream()
+                .filter(email -> !failed.containsKey(email.getId()) && !unrenderable.containsKey(email.getId()))
+                .toList();
+
+        transaction.executeWithoutResult(status -> {
+            if (!sent.isEmpty()) {
+                outboxRepository.markSent(sent.stream().map(OutboxEmail::getId).toList(), now);
+            }
+            unrenderable.forEach((id, error) -> outboxRepository.markDead(id, truncate(error)));
+            for (OutboxEmail email : batch) {
+                String error = failed.get(email.getId());
+                if (error == null) continue;
+                if (email.getAttempts() >= maxAttempts) {
+                    outboxRepository.markDead(email.getId(), truncate(error));
+                    log.error("Giving up on email {} to {} after {} attempts: {}",
+                            email.getId(), email.getRecipient(), email.getAttempts(), error);
+                } else {
+                    outboxRepository.reschedule(email.getId(), now.plus(backoff(email.getAttempts())), truncate(error));
+                }
+            }
+        });
+
+        long exhausted = batch.stream()
+                .filter(email -> failed.containsKey(email.getId()) && email.getAttempts() >= maxAttempts)
+                .count();
+        long retried = failed.size() - exhausted;
+        long dead = exhausted + unrenderable.size();
+        sentCounter.increment(sent.size());
+        retriedCounter.increment(retried);
+        deadCounter.increment(dead);
+        sent.forEach(email -> {
+            if (email.getCreatedAt() != null) {
+                deliveryDelayTimer.record(Duration.between(email.getCreatedAt(), now));
+            }
+        });
+        log.info("Email batch: {} sent, {} to retry, {} dead-lettered", sent.size(), retried, dead);
+    }
+
+    // backoff, 2 x backoff, 4 x backoff, ... up to max-backoff
+    private Duration backoff(int attempts) {
+        Duration delay = backoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private static String truncate(String error) {
+        if (error == null) return null;
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
@@ -0,0 +1,138 @@
+package com.taskmanagement.api.service;
+
+import com.taskmanagement.api.entity.OutboxEmail;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Service;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Turns outbox emails into MIME messages. Templates and the shared layout
+ * fragments they include are parsed once and served from the template engine's
+ * cache ({@code spring.thymeleaf.cache}), which is filled at startup; a batch is
+ * rendered in parallel, one virtual thread per email.
+ */
+@Service
+@Slf4j
+public class EmailRenderer {
+
+    // Every template EmailService queues; warmed at startup so a broken one shows up in the log
+    static final List<String> TEMPLATES = List.of(
+            "email/verification", "email/password-reset", "email/task-reminder", "email/welcome");
+
+    private final JavaMailSender mailSender;
+    private final TemplateEngine templateEngine;
+    private final String fromEmail;
+    private final ExecutorService executor;
+    private final Timer renderTimer;
+
+    public EmailRenderer(JavaMailSender mailSender,
+                         TemplateEngine templateEngine,
+                         MeterRegistry meterRegistry,
+                         @Value("${spring.mail.username}") String fromEmail) {
+        this.mailSender = mailSender;
+        this.templateEngine = templateEngine;
+        this.fromEmail = fromEmail;
+        // Rendering is CPU-bound; the virtual-thread carriers cap it at one thread per core
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("email-render-", 0).factory());
+        this.renderTimer = Timer.builder("email.render")
+                .description("Time to render one email into a MIME message")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * A rendered email: the message, or why it could not be built.
+     */
+    public record Rendered(OutboxEmail email, MimeMessage message, String error) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        for (String template : TEMPLATES) {
+            try {
+                templateEngine.process(template, new Context());
+            } catch (RuntimeException e) {
+                log.warn("Email template {} cannot be rendered: {}", template, e.getMessage());
+            }
+        }
+        log.debug("Email templates parsed and cached");
+    }
+
+    /**
+     * Renders every email, in the order given.
+     */
+    public List<Rendered> renderAll(List<OutboxEmail> emails) {
+        if (emails.size() == 1) {
+            return List.of(renderQuietly(emails.get(0)));
+        }
+        List<Future<Rendered>> futures = new ArrayList<>(emails.size());
+        for (OutboxEmail email : emails) {
+            futures.add(executor.submit(() -> renderQuietly(email)));
+        }
+
+        List<Rendered> rendered = new ArrayList<>(emails.size());
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                rendered.add(futures.get(i).get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                rendered.add(new Rendered(emails.get(i), null, "Interrupted while rendering"));
+            } catch (ExecutionException e) {
+                rendered.add(new Rendered(emails.get(i), null, e.getCause().getMessage()));
+            }
+        }
+        return rendered;
+    }
+
+    private Rendered renderQuietly(OutboxEmail email) {
+        Timer.Sample sample = Timer.start();
+        try {
+            return new Rendered(email, render(email), null);
+        } catch (MessagingException | RuntimeException e) {
+            return new Rendered(email, null, "Could not build the message: " + e.getMessage());
+        } finally {
+            sample.stop(renderTimer);
+        }
+    }
+
+    private MimeMessage render(OutboxEmail email) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        boolean html = email.getTemplate() != null;
+        MimeMessageHelper helper = new MimeMessageHelper(message, html, "UTF-8");
+        helper.setFrom(fromEmail);
+        helper.setTo(email.getRecipient());
+        helper.setSubject(email.getSubject());
+        if (html) {
+            Context context = new Context();
+            if (email.getVariables() != null) {
+                context.setVariables(email.getVariables());
+            }
+            helper.setText(templateEngine.process(email.getTemplate(), context), true);
+        } else {
+            helper.setText(email.getBody() != null ? email.getBody() : "");
+        }
+        return message;
+    }
+}
@@ -0,0 +1,88 @@
+package com.taskmanagement.api.service;
+
+import com.taskmanagement.api.entity.Job;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A running job as seen by its {@link JobHandler}. Progress and the result are
+ * only recorded here; {@link JobWorker} writes progress on its heartbeat and the
+ * result when the job finishes, and sets the cancel flag when a cancel arrives.
+ */
+public class JobContext {
+
+    private final UUID jobId;
+    private final UUID userId;
+    private final Map<String, Object> payload;
+    private volatile long progressCurrent;
+    private volatile Long progressTotal;
+    private volatile boolean cancelRequested;
+    private Map<String, Object> result;
+
+    JobContext(Job job) {
+        this.jobId = job.getId();
+        this.userId = job.getUserId();
+        this.payload = job.getPayload() != null ? job.getPayload() : Map.of();
+    }
+
+    public UUID jobId() {
+        return jobId;
+    }
+
+    public UUID userId() {
+        return userId;
+    }
+
+    public Map<String, Object> payload() {
+        return payload;
+    }
+
+    /**
+     * Reports progress; {@code total} may be null while it is not known.
+     */
+    public void progress(long current, Long total) {
+        this.progressTotal = total;
+        this.progressCurrent = current;
+    }
+
+    public boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    /**
+     * Stops the job (it ends CANCELLED) if a cancel was requested. Handlers call it
+     * between steps that leave the data consistent.
+     */
+    public void checkCancelled() {
+        if (cancelRequested) {
+            throw new CancelledException();
+        }
+    }
+
+    public void result(Map<String, Object> result) {
+        this.result = result;
+    }
+
+    long progressCurrent() {
+        return progressCurrent;
+    }
+
+    Long progressTotal() {
+        return progressTotal;
+    }
+
+    Map<String, Object> result() {
+        return result;
+    }
+
+    void requestCancel() {
+        this.cancelRequested = true;
+    }
+
+    static final class CancelledException extends RuntimeException {
+        CancelledException() {
+            super("Job cancelled", null, false, false);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.taskmanagement.api.service;
+
+import com.taskmanagement.api.entity.Job;
+import com.taskmanagement.api.enums.JobType;
+
+/**
+ * Runs the jobs of one {@link JobType}. Implementations are Spring beans picked
+ * up by {@link JobWorker}; {@link #run} is called on a worker thread outside any
+ * transaction, so a handler opens its own (one or several, for work that commits
+ * in steps).
+ */
+public interface JobHandler {
+
+    JobType type();
+
+    /**
+     * Does the work; throwing fails the job with the exception's message.
+     */
+    void run(JobContext context);
+
+    /**
+     * Releases what the job's payload refers to when it is cancelled before it ran.
+     */
+    default void discard(Job job) {
+    }
+}
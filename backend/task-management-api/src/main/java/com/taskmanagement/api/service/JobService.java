@@ -0,0 +1,133 @@
+package com.taskmanagement.api.service;
+
+import com.taskmanagement.api.dto.request.JobRequest;
+import com.taskmanagement.api.dto.response.JobResponse;
+import com.taskmanagement.api.entity.Job;
+import com.taskmanagement.api.enums.JobType;
+import com.taskmanagement.api.event.JobSubmittedEvent;
+import com.taskmanagement.api.exception.JobNotFoundException;
+import com.taskmanagement.api.exception.ValidationException;
+import com.taskmanagement.api.repository.JobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Queues background jobs and reports on them. Jobs are rows in the {@code jobs}
+ * table; {@link JobWorker} on any node runs them.
+ */
+@Service
+@Transactional
+@Slf4j
+public class JobService {
+
+    private final JobRepository jobRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    // Identifies this node in jobs.locked_by and jobs.pinned_node
+    private final String nodeId;
+
+    public JobService(JobRepository jobRepository,
+                      ApplicationEventPublisher eventPublisher,
+                      @Value("${app.jobs.node-id:}") String nodeId) {
+        this.jobRepository = jobRepository;
+        this.eventPublisher = eventPublisher;
+        this.nodeId = nodeId.isBlank() ? defaultNodeId() : nodeId;
+        log.info("Job worker node id: {}", this.nodeId);
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Queues a job of a type that users may start directly.
+     */
+    public JobResponse submit(UUID userId, JobRequest request) {
+        if (!request.getType().isSubmittable()) {
+            throw new ValidationException("Jobs of type " + request.getType() + " are started through their own endpoint");
+        }
+        // One rebuild at a time per user is enough
+        Optional<Job> active = jobRepository.findActiveByPayload(userId, request.getType().name(), "userId", userId.toString());
+        if (active.isPresent()) {
+            return JobResponse.fromEntity(active.get());
+        }
+        return JobResponse.fromEntity(enqueue(userId, request.getType(), Map.of("userId", userId.toString())));
+    }
+
+    /**
+     * Queues a job for any node.
+     */
+    public Job enqueue(UUID userId, JobType type, Map<String, Object> payload) {
+        return enqueue(userId, type, payload, null);
+    }
+
+    /**
+     * Queues a job that only this node may run, for input that exists only here
+     * (such as an uploaded file).
+     */
+    public Job enqueueLocal(UUID userId, JobType type, Map<String, Object> payload) {
+        return enqueue(userId, type, payload, nodeId);
+    }
+
+    private Job enqueue(UUID userId, JobType type, Map<String, Object> payload, String pinnedNode) {
+        Job job = jobRepository.save(Job.builder()
+                .userId(userId)
+                .type(type)
+                .payload(payload)
+                .pinnedNode(pinnedNode)
+                .build());
+        eventPublisher.publishEvent(new JobSubmittedEvent(job.getId(), type));
+        log.info("Queued {} job {} for user {}", type, job.getId(), userId);
+        return job;
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Job> findActive(UUID userId, JobType type, String payloadKey, String payloadValue) {
+        return jobRepository.findActiveByPayload(userId, type.name(), payloadKey, payloadValue);
+    }
+
+    @Transactional(readOnly = true)
+    public JobResponse getJob(UUID userId, UUID jobId) {
+        return JobResponse.fromEntity(find(userId, jobId));
+    }
+
+    /**
+     * Cancels a queued job at once; a running job is asked to stop and ends
+     * CANCELLED once its handler notices. Finished jobs are left as they are.
+     */
+    public JobResponse cancel(UUID userId, UUID jobId) {
+        find(userId, jobId);
+        if (jobRepository.cancelQueued(jobId, userId, LocalDateTime.now()) == 0) {
+            jobRepository.requestCancel(jobId, userId);
+        }
+        log.info("Cancel requested for job {} by user {}", jobId, userId);
+        // Re-read: the UPDATEs went around the persistence context
+        return JobResponse.fromEntity(jobRepository.findById(jobId).orElseThrow());
+    }
+
+    private Job find(UUID userId, UUID jobId) {
+        return jobRepository.findByIdAndUserId(jobId, userId)
+                .orElseThrow(() -> new JobNotFoundException("Job not found"));
+    }
+
+    // Host name plus process id: a restarted process is a new node, so jobs pinned
+    // to the old one time out instead of waiting for input that is gone
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "node";
+        }
+        return host + "-" + ProcessHandle.current().pid();
+    }
+}
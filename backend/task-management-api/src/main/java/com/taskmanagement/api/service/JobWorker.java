@@ -0,0 +1,255 @@
+package com.taskmanagement.api.service;
+
+import com.taskmanagement.api.entity.Job;
+import com.taskmanagement.api.enums.JobState;
+import com.taskmanagement.api.enums.JobType;
+import com.taskmanagement.api.event.JobSubmittedEvent;
+import com.taskmanagement.api.repository.JobRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs queued jobs on this node, each on its own virtual thread, at most
+ * {@code app.jobs.concurrency} at a time. Jobs are claimed with
+ * {@code FOR UPDATE SKIP LOCKED}, so any number of nodes can poll the same table.
+ *
+ * <p>A running job's row gets a heartbeat (with its progress) every
+ * {@code heartbeat-interval}, sent from a thread of its own. Every node also
+ * requeues or fails jobs whose heartbeat is older than {@code stale-after}, which
+ * recovers the work of a node that crashed or was shut down mid-job.</p>
+ */
+@Service
+@Slf4j
+public class JobWorker {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final JobRepository jobRepository;
+    private final Map<JobType, JobHandler> handlers = new EnumMap<>(JobType.class);
+    private final TransactionTemplate transaction;
+    private final String nodeId;
+    private final int maxAttempts;
+    private final Duration staleAfter;
+    private final Duration pinnedTimeout;
+    private final Duration retention;
+    private final Duration heartbeatInterval;
+    private final Semaphore permits;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService heartbeats;
+    private final Map<UUID, JobContext> running = new ConcurrentHashMap<>();
+    private volatile boolean stopping;
+
+    public JobWorker(JobRepository jobRepository,
+                     JobService jobService,
+                     List<JobHandler> handlers,
+                     PlatformTransactionManager transactionManager,
+                     @Value("${app.jobs.concurrency:4}") int concurrency,
+                     @Value("${app.jobs.max-attempts:3}") int maxAttempts,
+                     @Value("${app.jobs.heartbeat-interval:PT10S}") Duration heartbeatInterval,
+                     @Value("${app.jobs.stale-after:PT2M}") Duration staleAfter,
+                     @Value("${app.jobs.pinned-timeout:PT1H}") Duration pinnedTimeout,
+                     @Value("${app.jobs.retention:P7D}") Duration retention) {
+        this.jobRepository = jobRepository;
+        for (JobHandler handler : handlers) {
+            if (this.handlers.put(handler.type(), handler) != null) {
+                throw new IllegalStateException("More than one handler for job type " + handler.type());
+            }
+        }
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.nodeId = jobService.nodeId();
+        this.maxAttempts = maxAttempts;
+        this.staleAfter = staleAfter;
+        this.pinnedTimeout = pinnedTimeout;
+        this.retention = retention;
+        this.heartbeatInterval = heartbeatInterval;
+        // Bounded so long-running jobs cannot take every database connection
+        this.permits = new Semaphore(concurrency);
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("job-", 0).factory());
+        // Not the shared @Scheduled thread: a slow task there (an SMTP batch, a counter
+        // reconciliation) must not hold heartbeats back until the running jobs look stale
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("job-heartbeat").daemon().factory());
+    }
+
+    @PostConstruct
+    void start() {
+        long interval = heartbeatInterval.toMillis();
+        heartbeats.scheduleWithFixedDelay(() -> {
+            try {
+                heartbeat();
+            } catch (RuntimeException e) {
+                // A thrown exception would cancel all later heartbeats
+                log.warn("Job heartbeat failed: {}", e.getMessage());
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // Interrupted jobs stay RUNNING; once their heartbeat is stale another node requeues them
+        stopping = true;
+        heartbeats.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobSubmitted(JobSubmittedEvent event) {
+        if (!stopping) {
+            executor.execute(this::poll);
+        }
+    }
+
+    /**
+     * Claims as many queued jobs as there are free slots and starts them.
+     */
+    @Scheduled(initialDelayString = "${app.jobs.poll-interval:PT5S}", fixedDelayString = "${app.jobs.poll-interval:PT5S}")
+    public void poll() {
+        if (stopping) return;
+        int free = permits.drainPermits();
+        if (free == 0) return;
+
+        List<Job> claimed = List.of();
+        try {
+            claimed = transaction.execute(status -> claim(free));
+        } catch (RuntimeException e) {
+            log.warn("Claiming jobs failed: {}", e.getMessage());
+        } finally {
+            permits.release(free - claimed.size());
+        }
+        for (Job job : claimed) {
+            JobContext context = new JobContext(job);
+            running.put(job.getId(), context);
+            executor.execute(() -> execute(job, context));
+        }
+    }
+
+    private List<Job> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Job> claimed = new ArrayList<>();
+        for (Job job : jobRepository.lockClaimable(nodeId, limit)) {
+            if (Boolean.TRUE.equals(job.getCancelRequested())) {
+                // Cancelled while queued and pinned here: only this node can clean up its input
+                handlers.get(job.getType()).discard(job);
+                job.setState(JobState.CANCELLED);
+                job.setFinishedAt(now);
+                continue;
+            }
+            job.setState(JobState.RUNNING);
+            job.setLockedBy(nodeId);
+            job.setAttempts(job.getAttempts() + 1);
+            job.setStartedAt(now);
+            job.setHeartbeatAt(now);
+            claimed.add(job);
+        }
+        return claimed;
+    }
+
+    private void execute(Job job, JobContext context) {
+        JobState state;
+        String error = null;
+        try {
+            log.info("Running {} job {} (attempt {})", job.getType(), job.getId(), job.getAttempts());
+            handlers.get(job.getType()).run(context);
+            state = JobState.COMPLETED;
+        } catch (JobContext.CancelledException e) {
+            state = JobState.CANCELLED;
+        } catch (RuntimeException e) {
+            state = JobState.FAILED;
+            error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            log.warn("{} job {} failed: {}", job.getType(), job.getId(), error, e);
+        } finally {
+            running.remove(job.getId());
+            permits.release();
+        }
+
+        if (stopping) return;
+        try {
+            finish(job.getId(), context, state, error);
+        } catch (RuntimeException e) {
+            log.error("Recording the outcome of job {} failed", job.getId(), e);
+        }
+    }
+
+    private void finish(UUID jobId, JobContext context, JobState state, String error) {
+        transaction.executeWithoutResult(status -> {
+            Job job = jobRepository.findById(jobId).orElse(null);
+            if (job == null || job.getState() != JobState.RUNNING || !nodeId.equals(job.getLockedBy())) {
+                // Declared stale and requeued or failed while it ran; that outcome stands
+                log.warn("Job {} is no longer held by this node; dropping its {} outcome", jobId, state);
+                return;
+            }
+            job.setState(state);
+            job.setProgressCurrent(context.progressCurrent());
+            job.setProgressTotal(context.progressTotal());
+            job.setResult(context.result());
+            job.setError(error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+            job.setFinishedAt(LocalDateTime.now());
+            log.info("{} job {} finished: {}", job.getType(), jobId, state);
+        });
+    }
+
+    /**
+     * Records liveness and progress of the jobs running here, and passes cancel
+     * requests on to them. Runs every {@code heartbeat-interval} on the heartbeat thread.
+     */
+    public void heartbeat() {
+        if (running.isEmpty()) return;
+        transaction.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            running.forEach((jobId, context) -> {
+                if (jobRepository.heartbeat(jobId, nodeId, now, context.progressCurrent(), context.progressTotal()) == 0) {
+                    // Taken away as stale (or finishing right now); stop working on it
+                    context.requestCancel();
+                }
+            });
+            Set<UUID> ids = Set.copyOf(running.keySet());
+            if (!ids.isEmpty()) {
+                jobRepository.findCancelRequestedIds(ids).forEach(jobId -> {
+                    JobContext context = running.get(jobId);
+                    if (context != null) context.requestCancel();
+                });
+            }
+        });
+    }
+
+    /**
+     * Recovers jobs of nodes that stopped: stale running jobs go back to the queue
+     * until they reach {@code max-attempts}, pinned jobs fail because their input
+     * was on that node. Also purges finished jobs after {@code retention}.
+     */
+    @Scheduled(initialDelayString = "${app.jobs.reap-interval:PT1M}", fixedDelayString = "${app.jobs.reap-interval:PT1M}")
+    public void reap() {
+        transaction.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime staleBefore = now.minus(staleAfter);
+            int requeued = jobRepository.requeueStale(staleBefore, maxAttempts);
+            int failed = jobRepository.failStale(staleBefore, now, "The node running this job stopped responding");
+            int orphaned = jobRepository.failUnclaimedPinned(now.minus(pinnedTimeout), now,
+                    "The node holding this job's input did not pick it up");
+            int purged = jobRepository.deleteFinishedBefore(now.minus(retention));
+            if (requeued + failed + orphaned > 0) {
+                log.warn("Recovered stale jobs: {} requeued, {} failed, {} pinned jobs expired", requeued, failed, orphaned);
+            }
+            if (purged > 0) {
+                log.debug("Purged {} finished jobs", purged);
+            }
+        });
+    }
+}
@@ -0,0 +1,64 @@
+package com.taskmanagement.api.service;
+
+import com.taskmanagement.api.repository.ProjectRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Periodically recomputes the denormalized project task counters from the tasks
+ * table, logging and counting every project whose stored values had drifted.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "app.projects.counter-reconciliation.enabled", havingValue = "true", matchIfMissing = true)
+public class ProjectCounterReconciliationJob {
+
+    private final ProjectRepository projectRepository;
+    private final ProjectCounterService projectCounterService;
+    private final Counter driftCounter;
+
+    public ProjectCounterReconciliationJob(ProjectRepository projectRepository,
+                                           ProjectCounterService projectCounterService,
+                                           MeterRegistry meterRegistry) {
+        this.projectRepository = projectRepository;
+        this.projectCounterService = projectCounterService;
+        this.driftCounter = Counter.builder("project.task_counters.drift")
+                .description("Projects whose denormalized task counters disagreed with the tasks table")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${app.projects.counter-reconciliation.initial-delay:PT1M}",
+            fixedDelayString = "${app.projects.counter-reconciliation.interval:PT6H}")
+    @Transactional
+    public int reconcile() {
+        List<Object[]> drifted = projectRepository.findTaskCounterDrift();
+        if (drifted.isEmpty()) {
+            log.debug("Project task counters are consistent");
+            return 0;
+        }
+
+        // The drift query ran without locks, so a row may only have looked off because a
+        // task write was in flight; the locked recount settles which ones really drifted
+        int reconciled = 0;
+        for (Object[] row : drifted) {
+            UUID projectId = (UUID) row[0];
+            if (projectCounterService.recompute(projectId)) {
+                log.warn("Task counter drift on project {}: stored total={} completed={}, actual total={} completed={}",
+                        projectId, row[1], row[2], row[3], row[4]);
+                reconciled++;
+            }
+        }
+
+        driftCounter.increment(reconciled);
+        log.info("Reconciled task counters for {} project(s)", reconciled);
+        return reconciled;
+    }
+}
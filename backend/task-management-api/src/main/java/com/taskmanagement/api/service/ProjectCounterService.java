@@ -0,0 +1,107 @@
+package com.taskmanagement.api.service;
+
+import com.taskmanagement.api.event.ProjectTasksSoftDeletedEvent;
+import com.taskmanagement.api.event.TaskBatchChangedEvent;
+import com.taskmanagement.api.event.TaskChangedEvent;
+import com.taskmanagement.api.event.TaskSnapshot;
+import com.taskmanagement.api.event.TasksImportedEvent;
+import com.taskmanagement.api.repository.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Keeps the denormalized task counters on {@code Project} in step with task writes.
+ * Each {@link TaskChangedEvent} (or {@link TaskBatchChangedEvent}) is turned into the
+ * difference between the tasks' contributions before and after, applied with one
+ * atomic UPDATE per project.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(propagation = Propagation.MANDATORY)
+public class ProjectCounterService {
+
+    private final ProjectRepository projectRepository;
+
+    /**
+     * What a single task adds to its project's counters.
+     */
+    record Contribution(UUID projectId, int total, int completed) {
+
+        static final Contribution NONE = new Contribution(null, 0, 0);
+
+        static Contribution of(TaskSnapshot task) {
+            if (task == null || !task.isLive()) return NONE;
+            return new Contribution(task.projectId(), 1, task.isDone() ? 1 : 0);
+        }
+    }
+
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        applyAll(List.of(event));
+    }
+
+    @EventListener
+    public void onTaskBatchChanged(TaskBatchChangedEvent event) {
+        applyAll(event.changes());
+    }
+
+    @EventListener
+    public void onProjectTasksSoftDeleted(ProjectTasksSoftDeletedEvent event) {
+        projectRepository.resetTaskCounters(event.projectId());
+    }
+
+    @EventListener
+    public void onTasksImported(TasksImportedEvent event) {
+        // COPY bypasses the per-task events; recount the projects that received tasks
+        event.projectIds().stream().sorted().forEach(this::recompute);
+    }
+
+    /**
+     * Recounts a project's counters from the tasks table under its row lock, so an
+     * adjustment from a concurrent task write is neither lost nor counted twice.
+     * Returns whether the stored values were wrong.
+     */
+    public boolean recompute(UUID projectId) {
+        if (projectRepository.lockForTaskCounters(projectId).isEmpty()) {
+            return false;
+        }
+        return projectRepository.recomputeTaskCounters(projectId) > 0;
+    }
+
+    private void applyAll(List<TaskChangedEvent> changes) {
+        // Net change per project: a task that stays put nets out to after - before on one row,
+        // a moved task is withdrawn from the old project and added to the new one.
+        // TreeMap order gives every writer the same row-lock order.
+        Map<UUID, int[]> deltas = new TreeMap<>();
+        for (TaskChangedEvent change : changes) {
+            add(deltas, Contribution.of(change.before()), -1);
+            add(deltas, Contribution.of(change.after()), 1);
+        }
+        deltas.forEach((projectId, delta) -> adjust(projectId, delta[0], delta[1]));
+    }
+
+    private static void add(Map<UUID, int[]> deltas, Contribution contribution, int sign) {
+        if (contribution.projectId() == null) return;
+        int[] delta = deltas.computeIfAbsent(contribution.projectId(), id -> new int[2]);
+        delta[0] += sign * contribution.total();
+        delta[1] += sign * contribution.completed();
+    }
+
+    private void adjust(UUID projectId, int total, int completed) {
+        if (total == 0 && completed == 0) {
+            return;
+        }
+        projectRepository.adjustTaskCounters(projectId, total, completed);
+        log.debug("Adjusted task counters for project {}: total={} completed={}", projectId, total, completed);
+    }
+}
@@ -0,0 +1,55 @@
+package com.taskmanagement.api.service;
+
+import com.taskmanagement.api.enums.JobType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Deletes a large project in steps: its tasks are soft deleted in batches, each
+ * committed on its own, then detached from the project the same way, and the
+ * project row goes in one last transaction that also publishes the usual events.
+ * Once running, the job ignores cancel requests; stopping between batches would
+ * leave the project half emptied.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectDeleteJobHandler implements JobHandler {
+
+    private final ProjectService projectService;
+
+    @Value("${app.jobs.project-delete.batch-size:1000}")
+    private int batchSize;
+
+    @Override
+    public JobType type() {
+        return JobType.PROJECT_DELETE;
+    }
+
+    @Override
+    public void run(JobContext context) {
+        UUID projectId = UUID.fromString((String) context.payload().get("projectId"));
+        Number taskCount = (Number) context.payload().get("taskCount");
+        Long total = taskCount != null ? taskCount.longValue() : null;
+
+        long deleted = 0;
+        int batch;
+        do {
+            batch = projectService.softDeleteTaskBatch(projectId, batchSize);
+            deleted += batch;
+            context.progress(deleted, total);
+        } while (batch == batchSize);
+
+        // Deleted tasks keep their rows; the project row can only go once none refers to it
+        do {
+            batch = projectService.detachTaskBatch(projectId, batchSize);
+        } while (batch == batchSize);
+
+        projectService.finishDelete(context.userId(), projectId);
+        log.info("Project {} deleted by job {} ({} tasks)", projectId, context.jobId(), deleted);
+    }
+}
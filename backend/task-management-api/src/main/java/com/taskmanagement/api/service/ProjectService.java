@@ -2,24 +2,35 @@ package com.taskmanagement.api.service;
 
 import com.taskmanagement.api.dto.request.ProjectCreateRequest;
 import com.taskmanagement.api.dto.request.ProjectUpdateRequest;
+import com.taskmanagement.api.dto.response.JobResponse;
 import com.taskmanagement.api.dto.response.ProjectResponse;
 import com.taskmanagement.api.dto.response.ProjectSummaryResponse;
 import com.taskmanagement.api.entity.Project;
 import com.taskmanagement.api.entity.User;
-import com.taskmanagement.api.enums.TaskStatus;
+import com.taskmanagement.api.enums.JobType;
+import com.taskmanagement.api.event.ProjectChangedEvent;
+import com.taskmanagement.api.event.ProjectTasksSoftDeletedEvent;
 import com.taskmanagement.api.exception.ProjectNotFoundException;
 import com.taskmanagement.api.exception.UserNotFoundException;
 import com.taskmanagement.api.exception.ValidationException;
 import com.taskmanagement.api.repository.ProjectRepository;
 import com.taskmanagement.api.repository.TaskRepository;
 import com.taskmanagement.api.repository.UserRepository;
+import com.taskmanagement.api.repository.projection.ProjectListView;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -32,17 +43,27 @@ public class ProjectService {
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JobService jobService;
+
+    // Projects with more live tasks than this are deleted by a PROJECT_DELETE job
+    @Value("${app.jobs.project-delete.async-threshold:1000}")
+    private int asyncDeleteThreshold;
+
+    // 0..1, lower tolerates more typos; applies to pg_trgm word similarity
+    @Value("${app.projects.search.similarity-threshold:0.4}")
+    private double searchSimilarityThreshold;
 
     @Transactional(readOnly = true)
     public List<ProjectResponse> getProjectsByUser(UUID userId) {
         log.debug("Fetching projects for user: {}", userId);
 
-        List<Project> projects = projectRepository.findByUserIdOrderByCreatedAtDesc(userId);
+        List<ProjectListView> projects = projectRepository.findListViewsByUserId(userId);
 
         log.debug("Found {} projects for user: {}", projects.size(), userId);
 
         return projects.stream()
-                .map(ProjectResponse::fromEntity)
+                .map(ProjectResponse::fromView)
                 .collect(Collectors.toList());
     }
 
@@ -83,6 +104,7 @@ public class ProjectService {
                 .build();
 
         Project savedProject = projectRepository.save(project);
+        eventPublisher.publishEvent(new ProjectChangedEvent(userId, savedProject.getId(), savedProject.getName()));
         log.info("Successfully created project with ID: {} for user: {}", savedProject.getId(), userId);
 
         return ProjectResponse.fromEntity(savedProject);
@@ -112,30 +134,78 @@ public class ProjectService {
         project.setDeadline(request.getDeadline());
 
         Project updatedProject = projectRepository.save(project);
+        eventPublisher.publishEvent(new ProjectChangedEvent(userId, projectId, updatedProject.getName()));
         log.info("Successfully updated project: {} for user: {}", projectId, userId);
 
         return ProjectResponse.fromEntity(updatedProject);
     }
 
-    public void deleteProject(UUID userId, UUID projectId) {
+    /**
+     * Deletes the project and soft deletes its tasks. A project with more than
+     * {@code app.jobs.project-delete.async-threshold} tasks is deleted in the
+     * background instead; the queued (or already running) job is returned then.
+     */
+    public Optional<JobResponse> deleteProject(UUID userId, UUID projectId) {
         log.info("Deleting project: {} for user: {}", projectId, userId);
 
         Project project = projectRepository.findByIdAndUserId(projectId, userId)
                 .orElseThrow(() -> new ProjectNotFoundException("Project not found or access denied"));
 
-        // Check if project has tasks
-        Long taskCount = taskRepository.countByProjectIdAndIsDeletedFalse(projectId);
-        if (taskCount > 0) {
-            log.warn("Attempting to delete project {} with {} active tasks", projectId, taskCount);
-            // Option 1: Prevent deletion
-            // throw new ValidationException("Cannot delete project with active tasks. Please delete or reassign tasks first.");
+        // Counted from the tasks table rather than the counters, which a failed write may have left off
+        if (taskRepository.countLiveByProjectIdUpTo(projectId, asyncDeleteThreshold + 1) > asyncDeleteThreshold) {
+            String key = projectId.toString();
+            JobResponse job = JobResponse.fromEntity(jobService.findActive(userId, JobType.PROJECT_DELETE, "projectId", key)
+                    .orElseGet(() -> jobService.enqueue(userId, JobType.PROJECT_DELETE,
+                            Map.of("projectId", key, "taskCount", project.getTaskCount()))));
+            log.info("Project {} has {} tasks; deleting it with job {}", projectId, project.getTaskCount(), job.getId());
+            return Optional.of(job);
+        }
+
+        delete(userId, project);
+        return Optional.empty();
+    }
+
+    /**
+     * Soft deletes up to {@code limit} live tasks of the project in their own
+     * transaction, without events; {@link #finishDelete} settles the derived data.
+     * Returns the number of tasks deleted.
+     */
+    public int softDeleteTaskBatch(UUID projectId, int limit) {
+        return taskRepository.softDeleteBatchByProjectId(projectId, limit);
+    }
 
-            // Option 2: Soft delete tasks or move to "No Project"
-            taskRepository.softDeleteByProjectId(projectId);
-            log.info("Soft deleted {} tasks associated with project: {}", taskCount, projectId);
+    /**
+     * Detaches up to {@code limit} tasks, live or deleted, from the project in their
+     * own transaction. Returns the number of tasks detached.
+     */
+    public int detachTaskBatch(UUID projectId, int limit) {
+        return taskRepository.detachBatchFromProject(projectId, limit);
+    }
+
+    /**
+     * Last step of a PROJECT_DELETE job: deletes what is left of the project.
+     */
+    public void finishDelete(UUID userId, UUID projectId) {
+        projectRepository.findByIdAndUserId(projectId, userId)
+                .ifPresentOrElse(project -> delete(userId, project),
+                        () -> log.info("Project {} was already deleted", projectId));
+    }
+
+    private void delete(UUID userId, Project project) {
+        UUID projectId = project.getId();
+
+        // Soft delete the tasks (after a PROJECT_DELETE job's batches only stragglers are
+        // left; the counters still include the batched tasks, so the event settles all of them)
+        int softDeleted = taskRepository.softDeleteByProjectId(projectId);
+        if (softDeleted > 0 || project.getTaskCount() > 0) {
+            eventPublisher.publishEvent(new ProjectTasksSoftDeletedEvent(userId, projectId));
+            log.info("Soft deleted {} tasks associated with project: {}", softDeleted, projectId);
         }
 
+        // Only the project row goes; its tasks stay as soft deleted rows without a project
+        taskRepository.detachAllFromProject(projectId);
         projectRepository.delete(project);
+        eventPublisher.publishEvent(ProjectChangedEvent.deleted(userId, projectId));
         log.info("Successfully deleted project: {} for user: {}", projectId, userId);
     }
 
@@ -143,46 +213,45 @@ public class ProjectService {
     public List<ProjectSummaryResponse> getProjectSummaries(UUID userId) {
         log.debug("Fetching project summaries for user: {}", userId);
 
-        List<Project> projects = projectRepository.findByUserIdOrderByCreatedAtDesc(userId);
+        LocalDateTime now = LocalDateTime.now();
 
-        return projects.stream()
-                .map(project -> {
-                    Long totalTasks = taskRepository.countByProjectIdAndIsDeletedFalse(project.getId());
-                    Long completedTasks = taskRepository.countByProjectIdAndStatusAndIsDeletedFalse(
-                            project.getId(), TaskStatus.DONE);
-                    Long overdueTasks = taskRepository.countOverdueTasksByProjectId(
-                            project.getId(), LocalDateTime.now());
+        return projectRepository.getProjectSummaryStatsByUserId(userId, now).stream()
+                .map(data -> {
+                    LocalDateTime deadline = (LocalDateTime) data[3];
+                    int totalTasks = toInt(data[4]);
+                    int completedTasks = toInt(data[5]);
+                    int overdueTasks = toInt(data[6]);
 
                     return ProjectSummaryResponse.builder()
-                            .id(project.getId())
-                            .name(project.getName())
-                            .color(project.getColor())
-                            .totalTasks(totalTasks != null ? totalTasks.intValue() : 0)
-                            .completedTasks(completedTasks != null ? completedTasks.intValue() : 0)
-                            // .overdueTasks(overdueTasks != null ? overdueTasks.intValue() : 0)
+                            .id((UUID) data[0])
+                            .name((String) data[1])
+                            .color((String) data[2])
+                            .totalTasks(totalTasks)
+                            .completedTasks(completedTasks)
+                            .overdueTasks(overdueTasks)
                             .progress(totalTasks > 0 ? (completedTasks * 100.0) / totalTasks : 0.0)
-                            .deadline(project.getDeadline())
-                            .isOverdue(project.getDeadline() != null &&
-                                    LocalDateTime.now().isAfter(project.getDeadline()))
-                            //.createdAt(project.getCreatedAt())
+                            .deadline(deadline)
+                            .isOverdue(deadline != null && now.isAfter(deadline))
                             .build();
                 })
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
-    public List<ProjectResponse> searchProjects(UUID userId, String searchTerm) {
+    public Slice<ProjectResponse> searchProjects(UUID userId, String searchTerm, int page, int size) {
         log.debug("Searching projects for user: {} with term: {}", userId, searchTerm);
 
+        Pageable pageable = PageRequest.of(page, size);
+
         if (searchTerm == null || searchTerm.trim().isEmpty()) {
-            return getProjectsByUser(userId);
+            return projectRepository.findListViewsByUserId(userId, pageable).map(ProjectResponse::fromView);
         }
 
-        List<Project> projects = projectRepository.findByUserIdAndSearch(userId, searchTerm.trim());
+        // Must run in the same transaction as the search; set_config(..., true) is transaction-local
+        projectRepository.setWordSimilarityThreshold(searchSimilarityThreshold);
+        Slice<ProjectListView> projects = projectRepository.searchListViewsByUserId(userId, searchTerm.trim(), pageable);
 
-        return projects.stream()
-                .map(ProjectResponse::fromEntity)
-                .collect(Collectors.toList());
+        return projects.map(ProjectResponse::fromView);
     }
 
     @Transactional(readOnly = true)
@@ -192,10 +261,15 @@ public class ProjectService {
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime future = now.plusDays(days);
 
-        List<Project> projects = projectRepository.findByUserIdAndDeadlineBetween(userId, now, future);
+        List<ProjectListView> projects = projectRepository.findListViewsByUserIdAndDeadlineBetween(userId, now, future);
 
         return projects.stream()
-                .map(ProjectResponse::fromEntity)
+                .map(ProjectResponse::fromView)
                 .collect(Collectors.toList());
     }
+
+    // Counters and COUNT aggregates arrive as different Number types
+    private static int toInt(Object value) {
+        return value != null ? ((Number) value).intValue() : 0;
+    }
 }
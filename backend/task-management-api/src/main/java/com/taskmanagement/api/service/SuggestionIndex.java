@@ -0,0 +1,109 @@
+package com.taskmanagement.api.service;
+
+import com.taskmanagement.api.enums.SuggestionType;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory prefix index over one user's task titles and project names.
+ *
+ * <p>Every word of an entry is stored once in a sorted map under
+ * {@code word + '\0' + id}, so a prefix lookup is a single range scan. Reads are
+ * lock-free; writes are serialised per index.</p>
+ */
+final class SuggestionIndex {
+
+    record Entry(SuggestionType type, UUID id, String text, List<String> words) {
+    }
+
+    // Rough per-object overheads used for the memory budget
+    private static final long INDEX_BYTES = 256;
+    private static final long ENTRY_BYTES = 120;
+    private static final long WORD_BYTES = 96;
+    // How many matches are ranked before the top results are returned
+    private static final int CANDIDATE_LIMIT = 200;
+
+    private final ConcurrentSkipListMap<String, Entry> words = new ConcurrentSkipListMap<>();
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private volatile long estimatedBytes = INDEX_BYTES;
+
+    synchronized void put(SuggestionType type, UUID id, String text) {
+        remove(id);
+        if (text == null || text.isBlank()) return;
+
+        Entry entry = new Entry(type, id, text, tokenize(text));
+        entries.put(id, entry);
+        long bytes = ENTRY_BYTES + 2L * text.length();
+        for (String word : entry.words()) {
+            words.put(key(word, id), entry);
+            bytes += WORD_BYTES + 2L * (word.length() + 37);
+        }
+        estimatedBytes += bytes;
+    }
+
+    synchronized void remove(UUID id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) return;
+
+        long bytes = ENTRY_BYTES + 2L * entry.text().length();
+        for (String word : entry.words()) {
+            words.remove(key(word, id));
+            bytes += WORD_BYTES + 2L * (word.length() + 37);
+        }
+        estimatedBytes -= bytes;
+    }
+
+    /**
+     * Entries containing a word that starts with each word of {@code query}; entries
+     * whose text starts with the query come first, then shorter texts.
+     */
+    List<Entry> suggest(String query, int limit) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty()) return List.of();
+
+        // Scan the range of the most selective (longest) term, check the others per entry
+        String driver = terms.stream().max(Comparator.comparingInt(String::length)).orElseThrow();
+        Map<UUID, Entry> candidates = new LinkedHashMap<>();
+        for (Entry entry : words.subMap(driver, true, driver + Character.MAX_VALUE, false).values()) {
+            if (candidates.size() >= CANDIDATE_LIMIT) break;
+            if (!candidates.containsKey(entry.id()) && matchesAll(entry, terms)) {
+                candidates.put(entry.id(), entry);
+            }
+        }
+
+        String normalizedQuery = query.trim().toLowerCase(Locale.ROOT);
+        return candidates.values().stream()
+                .sorted(Comparator
+                        .comparing((Entry entry) -> !entry.text().toLowerCase(Locale.ROOT).startsWith(normalizedQuery))
+                        .thenComparingInt(entry -> entry.text().length())
+                        .thenComparing(Entry::text))
+                .limit(limit)
+                .toList();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    long estimatedBytes() {
+        return estimatedBytes;
+    }
+
+    private static boolean matchesAll(Entry entry, List<String> terms) {
+        return terms.stream().allMatch(term -> entry.words().stream().anyMatch(word -> word.startsWith(term)));
+    }
+
+    private static String key(String word, UUID id) {
+        return word + '\0' + id;
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null) return List.of();
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> !word.isEmpty())
+                .distinct()
+                .toList();
+    }
+}
@@ -0,0 +1,184 @@
+package com.taskmanagement.api.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.taskmanagement.api.dto.response.SuggestionResponse;
+import com.taskmanagement.api.enums.SuggestionType;
+import com.taskmanagement.api.event.ProjectChangedEvent;
+import com.taskmanagement.api.event.ProjectTasksSoftDeletedEvent;
+import com.taskmanagement.api.event.TaskBatchChangedEvent;
+import com.taskmanagement.api.event.TaskChangedEvent;
+import com.taskmanagement.api.event.TaskSnapshot;
+import com.taskmanagement.api.event.TasksImportedEvent;
+import com.taskmanagement.api.repository.ProjectRepository;
+import com.taskmanagement.api.repository.TaskRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Search-as-you-type over task titles and project names, answered from a
+ * per-user {@link SuggestionIndex} held in memory.
+ *
+ * <p>An index is built from the database on the user's first query and then kept
+ * current from committed task/project writes. All indexes share one memory budget;
+ * when it is exceeded the least recently used users' indexes are dropped and
+ * rebuilt on their next query. Every index is also rebuilt {@code expire-after-write}
+ * after it was built; keeping it current does not extend that. With
+ * {@code app.search.suggest.in-memory=false}
+ * suggestions come straight from the full-text task search instead.</p>
+ */
+@Service
+@Slf4j
+public class SuggestionService {
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final boolean inMemory;
+    private final Cache<UUID, SuggestionIndex> indexes;
+
+    @Autowired
+    public SuggestionService(TaskRepository taskRepository,
+                             ProjectRepository projectRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.search.suggest.in-memory:true}") boolean inMemory,
+                             @Value("${app.search.suggest.memory-budget-bytes:67108864}") long memoryBudgetBytes,
+                             @Value("${app.search.suggest.expire-after-write:30m}") Duration expireAfterWrite) {
+        this(taskRepository, projectRepository, meterRegistry, inMemory, memoryBudgetBytes, expireAfterWrite,
+                Ticker.systemTicker());
+    }
+
+    SuggestionService(TaskRepository taskRepository,
+                      ProjectRepository projectRepository,
+                      MeterRegistry meterRegistry,
+                      boolean inMemory,
+                      long memoryBudgetBytes,
+                      Duration expireAfterWrite,
+                      Ticker ticker) {
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.inMemory = inMemory;
+        this.indexes = Caffeine.newBuilder()
+                .maximumWeight(memoryBudgetBytes)
+                .weigher((UUID userId, SuggestionIndex index) -> (int) Math.min(index.estimatedBytes(), Integer.MAX_VALUE))
+                // Bounds how long a write that raced with an index build can stay missing
+                .expireAfter(expireAfterBuild(expireAfterWrite))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, indexes, "suggestionIndex");
+    }
+
+    @Transactional(readOnly = true)
+    public List<SuggestionResponse> suggest(UUID userId, String query, int limit) {
+        if (query == null || SuggestionIndex.tokenize(query).isEmpty()) {
+            return List.of();
+        }
+        if (!inMemory) {
+            return taskRepository.searchListViewsByUserIdFullText(userId, query, 0, limit).stream()
+                    .map(task -> new SuggestionResponse(SuggestionType.TASK, task.id(), task.title()))
+                    .toList();
+        }
+
+        return indexes.get(userId, this::buildIndex).suggest(query, limit).stream()
+                .map(entry -> new SuggestionResponse(entry.type(), entry.id(), entry.text()))
+                .toList();
+    }
+
+    // Counted from the build only: the in-place updates below re-weigh the entry, and
+    // with expireAfterWrite each of them would also restart its lifetime, so an index
+    // of an active user would never be rebuilt
+    private static Expiry<UUID, SuggestionIndex> expireAfterBuild(Duration lifetime) {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(UUID userId, SuggestionIndex index, long currentTime) {
+                return lifetime.toNanos();
+            }
+
+            @Override
+            public long expireAfterUpdate(UUID userId, SuggestionIndex index, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+
+            @Override
+            public long expireAfterRead(UUID userId, SuggestionIndex index, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+
+    private SuggestionIndex buildIndex(UUID userId) {
+        SuggestionIndex index = new SuggestionIndex();
+        for (Object[] row : taskRepository.findLiveTitlesByUserId(userId)) {
+            index.put(SuggestionType.TASK, (UUID) row[0], (String) row[1]);
+        }
+        for (Object[] row : projectRepository.findNamesByUserId(userId)) {
+            index.put(SuggestionType.PROJECT, (UUID) row[0], (String) row[1]);
+        }
+        log.debug("Built suggestion index for user {} with {} entries (~{} bytes)",
+                userId, index.size(), index.estimatedBytes());
+        return index;
+    }
+
+    // ---- Maintenance: only indexes already in memory are touched, after commit ----
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        TaskSnapshot task = event.after() != null ? event.after() : event.before();
+        update(task.userId(), index -> {
+            if (event.after() != null && event.after().isLive()) {
+                index.put(SuggestionType.TASK, task.id(), event.after().title());
+            } else {
+                index.remove(task.id());
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskBatchChanged(TaskBatchChangedEvent event) {
+        event.changes().forEach(this::onTaskChanged);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        update(event.userId(), index -> {
+            if (event.isDeleted()) {
+                index.remove(event.projectId());
+            } else {
+                index.put(SuggestionType.PROJECT, event.projectId(), event.name());
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectTasksSoftDeleted(ProjectTasksSoftDeletedEvent event) {
+        // The affected task ids are not known here; rebuild on the next query
+        indexes.invalidate(event.userId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksImported(TasksImportedEvent event) {
+        indexes.invalidate(event.userId());
+    }
+
+    private void update(UUID userId, Consumer<SuggestionIndex> change) {
+        // Atomic with invalidation and expiry, so a dropped index is never put back;
+        // returning the entry makes the cache re-weigh it against the budget
+        indexes.asMap().computeIfPresent(userId, (id, index) -> {
+            change.accept(index);
+            return index;
+        });
+    }
+}
@@ -0,0 +1,52 @@
+package com.taskmanagement.api.service;
+
+import com.taskmanagement.api.enums.TaskSortField;
+import com.taskmanagement.api.exception.ValidationException;
+import com.taskmanagement.api.repository.projection.TaskListView;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position after the last task of a keyset page: the sort key and id of that task,
+ * plus the sort it was produced under so a cursor cannot be replayed against a
+ * different ordering. Encoded as opaque URL-safe Base64.
+ */
+public record TaskCursor(TaskSortField sortField, Sort.Direction direction, String sortValue, UUID id) {
+
+    private static final char SEPARATOR = '\n';
+
+    public static TaskCursor after(TaskListView task, TaskSortField sortField, Sort.Direction direction) {
+        String sortValue = switch (sortField) {
+            case CREATED_AT -> task.createdAt().toString();
+            case UPDATED_AT -> task.updatedAt().toString();
+            case TITLE -> task.title();
+            default -> throw new IllegalArgumentException("No keyset support for " + sortField);
+        };
+        return new TaskCursor(sortField, direction, sortValue, task.id());
+    }
+
+    public static TaskCursor decode(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = raw.split(String.valueOf(SEPARATOR), 4);
+            return new TaskCursor(TaskSortField.valueOf(parts[0]), Sort.Direction.valueOf(parts[1]),
+                    parts[3], UUID.fromString(parts[2]));
+        } catch (RuntimeException e) {
+            throw new ValidationException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        // Free-text sort value last so it may contain anything, including the separator
+        String raw = sortField.name() + SEPARATOR + direction.name() + SEPARATOR + id + SEPARATOR + sortValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime sortValueAsDateTime() {
+        return LocalDateTime.parse(sortValue);
+    }
+}
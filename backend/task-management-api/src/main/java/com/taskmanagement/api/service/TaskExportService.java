@@ -0,0 +1,111 @@
+package com.taskmanagement.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.taskmanagement.api.dto.request.TaskFilterRequest;
+import com.taskmanagement.api.enums.TaskFileFormat;
+import com.taskmanagement.api.repository.TaskRepository;
+import com.taskmanagement.api.repository.projection.TaskListView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Writes every task matching the list filters to an output stream as NDJSON or
+ * CSV. Rows come from a server-side cursor as {@link TaskListView} projections,
+ * so neither the result set nor a persistence context grows with the export.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskExportService {
+
+    private static final String CSV_HEADER =
+            "id,title,description,status,priority,dueDate,createdAt,updatedAt,completedAt,projectId,projectName";
+
+    private final TaskRepository taskRepository;
+    private final TaskService taskService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.tasks.export.fetch-size:500}")
+    private int fetchSize;
+
+    /**
+     * Streams the export; the read-only transaction keeps the cursor open until the
+     * last row is written. Returns the number of rows written.
+     */
+    @Transactional(readOnly = true)
+    public long export(UUID userId, TaskFilterRequest filter, TaskFileFormat format, OutputStream out) throws IOException {
+        long rows = 0;
+        try (Stream<TaskListView> tasks = taskRepository.streamListViews(taskService.listSpecification(userId, filter), fetchSize)) {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            Iterator<TaskListView> iterator = tasks.iterator();
+            if (format == TaskFileFormat.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+            ObjectWriter json = objectMapper.writerFor(TaskListView.class);
+            while (iterator.hasNext()) {
+                TaskListView task = iterator.next();
+                if (format == TaskFileFormat.CSV) {
+                    writeCsv(writer, task);
+                } else {
+                    writer.write(json.writeValueAsString(task));
+                }
+                writer.write('\n');
+                rows++;
+            }
+            writer.flush();
+        }
+        log.info("Exported {} tasks as {} for user {}", rows, format, userId);
+        return rows;
+    }
+
+    private static void writeCsv(Writer writer, TaskListView task) throws IOException {
+        writer.write(String.join(",",
+                csv(task.id()),
+                csv(task.title()),
+                csv(task.description()),
+                csv(task.status()),
+                csv(task.priority()),
+                csv(task.dueDate()),
+                csv(task.createdAt()),
+                csv(task.updatedAt()),
+                csv(task.completedAt()),
+                csv(task.projectId()),
+                csv(task.projectName())));
+    }
+
+    // RFC 4180 quoting; a leading formula character is neutralised for spreadsheet apps
+    private static String csv(Object value) {
+        if (value == null) return "";
+        String text = value.toString();
+        if (isFormulaLike(text)) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+
+    /**
+     * Whether a CSV value gets (or, read back, carries) the {@code '} guard: it starts
+     * with {@code = + - @}, possibly after other {@code '}s. Guarding values that are
+     * already quoted that way too lets the import strip exactly one {@code '} and get
+     * back the original value.
+     */
+    static boolean isFormulaLike(String text) {
+        int i = 0;
+        while (i < text.length() && text.charAt(i) == '\'') i++;
+        return i < text.length() && "=+-@".indexOf(text.charAt(i)) >= 0;
+    }
+}
@@ -0,0 +1,145 @@
+package com.taskmanagement.api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.api.enums.TaskFileFormat;
+import com.taskmanagement.api.exception.ValidationException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Reads an import file one record at a time as field name to value, with names
+ * lower-cased. CSV needs a header row (the export's header works); NDJSON has one
+ * object per line. A malformed record throws {@link ValidationException} and the
+ * reader carries on with the next one.
+ */
+class TaskImportReader {
+
+    private final BufferedReader in;
+    private final TaskFileFormat format;
+    private final ObjectMapper objectMapper;
+    private List<String> header;
+    private long line = 1;
+    private long recordLine;
+
+    TaskImportReader(BufferedReader in, TaskFileFormat format, ObjectMapper objectMapper) {
+        this.in = in;
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * The next non-blank record, or null at the end of the input.
+     */
+    Map<String, String> next() throws IOException {
+        return format == TaskFileFormat.CSV ? nextCsv() : nextJson();
+    }
+
+    // Line on which the record last returned (or rejected) by next() starts
+    long line() {
+        return recordLine;
+    }
+
+    private Map<String, String> nextJson() throws IOException {
+        String text;
+        do {
+            recordLine = line;
+            text = in.readLine();
+            if (text == null) return null;
+            line++;
+        } while (text.isBlank());
+
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(text);
+        } catch (JsonProcessingException e) {
+            throw new ValidationException("malformed JSON");
+        }
+        if (!node.isObject()) {
+            throw new ValidationException("expected a JSON object");
+        }
+        Map<String, String> values = new HashMap<>();
+        node.fields().forEachRemaining(field -> values.put(field.getKey().toLowerCase(Locale.ROOT),
+                field.getValue().isNull() ? null : field.getValue().asText()));
+        return values;
+    }
+
+    private Map<String, String> nextCsv() throws IOException {
+        if (header == null) {
+            List<String> names = readCsvRecord();
+            if (names == null) return null;
+            if (!names.isEmpty() && names.get(0).startsWith("\uFEFF")) {
+                names.set(0, names.get(0).substring(1));
+            }
+            header = names.stream().map(name -> name.trim().toLowerCase(Locale.ROOT)).toList();
+            if (!header.contains("title")) {
+                // Not a per-row problem: the whole file is unusable
+                throw new IllegalStateException("CSV header must include a title column");
+            }
+        }
+
+        List<String> fields;
+        do {
+            fields = readCsvRecord();
+            if (fields == null) return null;
+        } while (fields.size() == 1 && fields.get(0).isBlank());
+
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < header.size() && i < fields.size(); i++) {
+            values.put(header.get(i), unescapeFormula(fields.get(i)));
+        }
+        return values;
+    }
+
+    // RFC 4180 record; quoted fields may contain separators, quotes ("") and line breaks
+    private List<String> readCsvRecord() throws IOException {
+        int c = in.read();
+        if (c == -1) return null;
+        recordLine = line;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new ValidationException("unterminated quoted field");
+                }
+                if (c == '"') {
+                    int following = in.read();
+                    if (following != '"') {
+                        quoted = false;
+                        c = following;
+                        continue;
+                    }
+                } else if (c == '\n') {
+                    line++;
+                }
+                field.append((char) c);
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                line++;
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = in.read();
+        }
+    }
+
+    // Undoes the export's guard against spreadsheet formulas ('=..., ''+..., ...)
+    private static String unescapeFormula(String value) {
+        if (!value.isEmpty() && value.charAt(0) == '\'' && TaskExportService.isFormulaLike(value)) {
+            return value.substring(1);
+        }
+        return value;
+    }
+}
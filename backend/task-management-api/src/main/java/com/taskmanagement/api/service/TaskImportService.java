@@ -0,0 +1,374 @@
+package com.taskmanagement.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.api.dto.response.JobResponse;
+import com.taskmanagement.api.entity.Job;
+import com.taskmanagement.api.entity.UuidV7Generator;
+import com.taskmanagement.api.enums.JobType;
+import com.taskmanagement.api.enums.TaskFileFormat;
+import com.taskmanagement.api.enums.TaskPriority;
+import com.taskmanagement.api.enums.TaskStatus;
+import com.taskmanagement.api.event.TasksImportedEvent;
+import com.taskmanagement.api.exception.ValidationException;
+import com.taskmanagement.api.repository.ProjectRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+
+/**
+ * Loads tasks in bulk from CSV or NDJSON. The upload is spooled to a temporary
+ * file and imported by a {@link JobType#TASK_IMPORT} job pinned to the node that
+ * holds the file: rows are validated one at a time, project names resolved from
+ * one in-memory map per import, and valid rows streamed into PostgreSQL with
+ * {@code COPY ... FROM STDIN} in a single transaction. Rejected rows are skipped
+ * and reported with their line number in the job's result.
+ */
+@Service
+@Slf4j
+public class TaskImportService implements JobHandler {
+
+    private static final String COPY_SQL = "COPY tasks (id, title, description, status, priority, due_date, " +
+            "completed_at, user_id, project_id, is_deleted, created_at, updated_at) FROM STDIN WITH (FORMAT csv)";
+    private static final int COPY_CHUNK_CHARS = 64 * 1024;
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final ProjectRepository projectRepository;
+    private final ObjectMapper objectMapper;
+    private final DataSource dataSource;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JobService jobService;
+    private final TransactionTemplate importTransaction;
+    private final long maxRows;
+    private final long maxBytes;
+
+    public TaskImportService(ProjectRepository projectRepository,
+                             ObjectMapper objectMapper,
+                             DataSource dataSource,
+                             ApplicationEventPublisher eventPublisher,
+                             JobService jobService,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${app.tasks.import.max-rows:500000}") long maxRows,
+                             @Value("${app.tasks.import.max-bytes:268435456}") long maxBytes) {
+        this.projectRepository = projectRepository;
+        this.objectMapper = objectMapper;
+        this.dataSource = dataSource;
+        this.eventPublisher = eventPublisher;
+        this.jobService = jobService;
+        this.importTransaction = new TransactionTemplate(transactionManager);
+        this.maxRows = maxRows;
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public JobType type() {
+        return JobType.TASK_IMPORT;
+    }
+
+    /**
+     * Spools {@code body} to disk and queues the import job; returns its initial status.
+     */
+    public JobResponse submit(UUID userId, TaskFileFormat format, InputStream body) throws IOException {
+        Path file = Files.createTempFile("task-import-", "." + format.getFileExtension());
+        Job job;
+        try {
+            spool(body, file);
+            job = jobService.enqueueLocal(userId, JobType.TASK_IMPORT, Map.of(
+                    "file", file.toString(),
+                    "format", format.name(),
+                    "bytes", Files.size(file)));
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        log.info("Queued task import {} for user {} ({}, {} bytes)", job.getId(), userId, format, job.getPayload().get("bytes"));
+        return JobResponse.fromEntity(job);
+    }
+
+    private void spool(InputStream body, Path file) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file)) {
+            byte[] buffer = new byte[8192];
+            long total = 0;
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                total += read;
+                if (total > maxBytes) {
+                    throw new ValidationException("Import file exceeds " + maxBytes + " bytes");
+                }
+                out.write(buffer, 0, read);
+            }
+        }
+    }
+
+    @Override
+    public void run(JobContext context) {
+        Path file = Path.of((String) context.payload().get("file"));
+        ImportCounts counts = new ImportCounts();
+        try {
+            importTransaction.executeWithoutResult(status -> load(context, file, counts));
+            log.info("Task import {} completed: {} imported, {} rejected",
+                    context.jobId(), counts.rowsImported, counts.rowsRejected);
+        } catch (RuntimeException e) {
+            // The transaction rolled back, so nothing from this file is in the table
+            counts.rowsImported = 0;
+            throw e;
+        } finally {
+            context.result(counts.toResult());
+            deleteFile(file);
+        }
+    }
+
+    @Override
+    public void discard(Job job) {
+        deleteFile(Path.of((String) job.getPayload().get("file")));
+    }
+
+    private static void deleteFile(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete import file {}: {}", file, e.getMessage());
+        }
+    }
+
+    // Runs inside the import transaction; COPY uses that transaction's connection
+    private void load(JobContext context, Path file, ImportCounts counts) {
+        TaskFileFormat format = TaskFileFormat.valueOf((String) context.payload().get("format"));
+        ProjectLookup projects = new ProjectLookup(projectRepository.findNamesByUserId(context.userId()));
+        Set<UUID> touchedProjects = new HashSet<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        CopyIn copy = null;
+        try (CountingInputStream raw = new CountingInputStream(Files.newInputStream(file));
+             BufferedReader in = new BufferedReader(new InputStreamReader(raw, StandardCharsets.UTF_8))) {
+            long totalBytes = Files.size(file);
+            copy = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+            TaskImportReader reader = new TaskImportReader(in, format, objectMapper);
+            StringBuilder chunk = new StringBuilder(COPY_CHUNK_CHARS + 1024);
+
+            while (true) {
+                Map<String, String> values;
+                try {
+                    values = reader.next();
+                } catch (ValidationException e) {
+                    counts.rowsRead++;
+                    counts.reject(reader.line(), e.getMessage());
+                    continue;
+                }
+                if (values == null) break;
+                if (++counts.rowsRead > maxRows) {
+                    throw new ValidationException("Import has more than " + maxRows + " rows");
+                }
+
+                try {
+                    UUID projectId = appendCopyRow(chunk, values, context.userId(), projects, now);
+                    if (projectId != null) touchedProjects.add(projectId);
+                    counts.rowsImported++;
+                } catch (ValidationException e) {
+                    counts.reject(reader.line(), e.getMessage());
+                }
+
+                if (chunk.length() >= COPY_CHUNK_CHARS) {
+                    writeChunk(copy, chunk);
+                    // Bytes read run slightly ahead of the rows parsed (reader buffering)
+                    context.progress(raw.count(), totalBytes);
+                    context.checkCancelled();
+                }
+            }
+            writeChunk(copy, chunk);
+            copy.endCopy();
+            context.progress(totalBytes, totalBytes);
+        } catch (IOException | SQLException e) {
+            cancel(copy);
+            throw new IllegalStateException("Import failed: " + e.getMessage(), e);
+        } catch (RuntimeException e) {
+            cancel(copy);
+            throw e;
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+
+        if (counts.rowsImported > 0) {
+            eventPublisher.publishEvent(new TasksImportedEvent(context.userId(), touchedProjects, counts.rowsImported));
+        }
+    }
+
+    /**
+     * Validates one record and appends it to {@code chunk} as a COPY CSV line.
+     * Returns the task's project id, if any.
+     */
+    private static UUID appendCopyRow(StringBuilder chunk, Map<String, String> values, UUID userId,
+                                      ProjectLookup projects, LocalDateTime now) {
+        String title = trimToNull(values.get("title"));
+        if (title == null) throw new ValidationException("title is required");
+        if (title.length() > 100) throw new ValidationException("title must not exceed 100 characters");
+
+        String description = trimToNull(values.get("description"));
+        if (description != null && description.length() > 1000) {
+            throw new ValidationException("description must not exceed 1000 characters");
+        }
+
+        TaskStatus status = parseEnum(TaskStatus.class, values.get("status"), TaskStatus.TODO, "status");
+        TaskPriority priority = parseEnum(TaskPriority.class, values.get("priority"), TaskPriority.MEDIUM, "priority");
+        LocalDateTime dueDate = parseDueDate(trimToNull(values.get("duedate")));
+        UUID projectId = projects.resolve(trimToNull(values.get("projectid")), trimToNull(values.get("projectname")));
+
+        chunk.append(UuidV7Generator.next()).append(',')
+                .append(quote(title)).append(',')
+                .append(quote(description)).append(',')
+                .append(status.name()).append(',')
+                .append(priority.name()).append(',')
+                .append(dueDate != null ? dueDate : "").append(',')
+                .append(status == TaskStatus.DONE ? now : "").append(',')
+                .append(userId).append(',')
+                .append(projectId != null ? projectId : "").append(',')
+                .append("false,")
+                .append(now).append(',')
+                .append(now).append('\n');
+        return projectId;
+    }
+
+    private static void writeChunk(CopyIn copy, StringBuilder chunk) throws SQLException {
+        if (chunk.isEmpty()) return;
+        byte[] bytes = chunk.toString().getBytes(StandardCharsets.UTF_8);
+        copy.writeToCopy(bytes, 0, bytes.length);
+        chunk.setLength(0);
+    }
+
+    private static void cancel(CopyIn copy) {
+        try {
+            if (copy != null && copy.isActive()) copy.cancelCopy();
+        } catch (SQLException e) {
+            log.debug("Cancelling COPY failed: {}", e.getMessage());
+        }
+    }
+
+    // COPY CSV: unquoted empty is NULL, quoted text is taken literally
+    private static String quote(String value) {
+        return value == null ? "" : '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static String trimToNull(String value) {
+        return value != null && !value.isBlank() ? value.trim() : null;
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value, E defaultValue, String field) {
+        String text = trimToNull(value);
+        if (text == null) return defaultValue;
+        try {
+            return Enum.valueOf(type, text.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("unknown " + field + " '" + text + "'");
+        }
+    }
+
+    // Accepts a date (2025-01-31) or the export's date-time (2025-01-31T00:00)
+    private static LocalDateTime parseDueDate(String value) {
+        if (value == null) return null;
+        try {
+            return value.length() <= 10 ? LocalDate.parse(value).atStartOfDay() : LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new ValidationException("invalid dueDate '" + value + "'");
+        }
+    }
+
+    /**
+     * The user's projects by id and by case-insensitive name, loaded once per import.
+     */
+    private static final class ProjectLookup {
+        private final Set<UUID> ids = new HashSet<>();
+        private final Map<String, UUID> idsByName = new HashMap<>();
+
+        ProjectLookup(List<Object[]> rows) {
+            for (Object[] row : rows) {
+                ids.add((UUID) row[0]);
+                idsByName.putIfAbsent(((String) row[1]).toLowerCase(Locale.ROOT), (UUID) row[0]);
+            }
+        }
+
+        // projectId wins when both are given, so an export re-imports into the same projects
+        UUID resolve(String projectId, String projectName) {
+            if (projectId != null) {
+                try {
+                    UUID id = UUID.fromString(projectId);
+                    if (ids.contains(id)) return id;
+                } catch (IllegalArgumentException e) {
+                    throw new ValidationException("invalid projectId '" + projectId + "'");
+                }
+                if (projectName == null) throw new ValidationException("unknown projectId '" + projectId + "'");
+            }
+            if (projectName == null) return null;
+            UUID id = idsByName.get(projectName.toLowerCase(Locale.ROOT));
+            if (id == null) throw new ValidationException("unknown project '" + projectName + "'");
+            return id;
+        }
+    }
+
+    private static final class ImportCounts {
+        private long rowsRead;
+        private long rowsImported;
+        private long rowsRejected;
+        private final List<String> errors = new ArrayList<>();
+
+        void reject(long line, String reason) {
+            rowsRejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add("line " + line + ": " + reason);
+            }
+        }
+
+        Map<String, Object> toResult() {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("rowsRead", rowsRead);
+            result.put("rowsImported", rowsImported);
+            result.put("rowsRejected", rowsRejected);
+            // First rejected rows, as "line N: reason"
+            result.put("errors", List.copyOf(errors));
+            return result;
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        long count() {
+            return count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) count++;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) count += read;
+            return read;
+        }
+    }
+}
@@ -3,28 +3,48 @@ package com.taskmanagement.api.service;
 import com.taskmanagement.api.dto.request.TaskCreateRequest;
 import com.taskmanagement.api.dto.request.TaskFilterRequest;
 import com.taskmanagement.api.dto.request.TaskUpdateRequest;
+import com.taskmanagement.api.dto.response.AttachmentResponse;
+import com.taskmanagement.api.dto.response.CursorPageResponse;
 import com.taskmanagement.api.dto.response.TaskResponse;
 import com.taskmanagement.api.entity.Project;
 import com.taskmanagement.api.entity.Task;
 import com.taskmanagement.api.entity.User;
-import com.taskmanagement.api.enums.TaskStatus;
+import com.taskmanagement.api.enums.CountMode;
+import com.taskmanagement.api.enums.TaskSortField;
+import com.taskmanagement.api.event.TaskChangedEvent;
+import com.taskmanagement.api.event.TaskSnapshot;
 import com.taskmanagement.api.exception.ProjectNotFoundException;
 import com.taskmanagement.api.exception.TaskNotFoundException;
 import com.taskmanagement.api.exception.UnauthorizedAccessException;
 import com.taskmanagement.api.exception.UserNotFoundException;
+import com.taskmanagement.api.exception.ValidationException;
+import com.taskmanagement.api.repository.AttachmentRepository;
 import com.taskmanagement.api.repository.ProjectRepository;
 import com.taskmanagement.api.repository.TaskRepository;
 import com.taskmanagement.api.repository.UserRepository;
+import com.taskmanagement.api.repository.projection.TaskCountSummary;
+import com.taskmanagement.api.repository.projection.TaskListView;
+import com.taskmanagement.api.repository.specification.TaskSpecifications;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -33,27 +53,208 @@ public class TaskService {
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
+    private final AttachmentRepository attachmentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserTaskStatsService userTaskStatsService;
 
-    public Page<TaskResponse> getTasks(UUID userId, TaskFilterRequest filter) {
-        Pageable pageable = PageRequest.of(
-                filter.getPage(),
-                filter.getSize(),
-                Sort.by(Sort.Direction.fromString(filter.getSortDirection()), filter.getSortBy())
-        );
-
-        Page<Task> tasks;
-
-        if (filter.getSearch() != null && !filter.getSearch().isEmpty()) {
-            tasks = taskRepository.findByUserIdAndSearchAndIsDeletedFalse(userId, filter.getSearch(), pageable);
-        } else if (filter.getStatus() != null) {
-            tasks = taskRepository.findByUserIdAndStatusAndIsDeletedFalse(userId, filter.getStatus(), pageable);
-        } else if (filter.getProjectId() != null) {
-            tasks = taskRepository.findByUserIdAndProjectIdAndIsDeletedFalse(userId, filter.getProjectId(), pageable);
+    // false falls back to the LOWER(...) LIKE '%term%' scan
+    @Value("${app.tasks.search.full-text:true}")
+    private boolean fullTextSearch;
+
+    /**
+     * Offset-paged task list. Returns a {@link Page} for {@code count=exact|estimate}
+     * and a bare {@link Slice} for {@code count=none}. In every mode the COUNT is
+     * skipped when the page itself shows where the list ends. Rows are read as
+     * {@link TaskListView} projections, never as entities.
+     */
+    public Slice<TaskResponse> getTasks(UUID userId, TaskFilterRequest filter) {
+        TaskSortField sortField = TaskSortField.fromParam(filter.getSortBy());
+        Sort.Direction direction = sortDirection(filter);
+        // Ordering is applied by the specification so priority can sort by rank
+        Pageable pageable = PageRequest.of(filter.getPage(), filter.getSize());
+        CountMode countMode = filter.getCount() != null ? filter.getCount() : CountMode.EXACT;
+
+        String search = normalizedSearch(filter);
+        boolean fullText = useFullText(search);
+        // Search on its own keeps relevance ordering from the ranked full-text query
+        boolean rankedSearch = fullText && !hasStructuredFilters(filter);
+
+        // Fetch one row past the page: it tells whether more follow without counting
+        List<TaskListView> rows = rankedSearch
+                ? taskRepository.searchListViewsByUserIdFullText(userId, search, pageable.getOffset(), pageable.getPageSize() + 1)
+                : taskRepository.findListViews(sortedSpecification(userId, filter, search, fullText, sortField, direction),
+                        pageable.getOffset(), pageable.getPageSize() + 1);
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<TaskResponse> content = toResponses(hasNext ? rows.subList(0, pageable.getPageSize()) : rows);
+
+        if (countMode == CountMode.NONE) {
+            return new SliceImpl<>(content, pageable, hasNext);
+        }
+        // On the last page the total is offset + rows, no COUNT needed. An empty page past
+        // the first says nothing about where the list ends, so that one is counted.
+        long total;
+        if (!hasNext && (pageable.getOffset() == 0 || !content.isEmpty())) {
+            total = pageable.getOffset() + content.size();
+        } else if (countMode == CountMode.ESTIMATE) {
+            total = estimateTotal(userId, filter, search)
+                    .orElseGet(() -> countTasks(userId, filter, search, fullText, rankedSearch));
         } else {
-            tasks = taskRepository.findByUserIdAndIsDeletedFalse(userId, pageable);
+            total = countTasks(userId, filter, search, fullText, rankedSearch);
         }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * Builds responses from list views, loading the attachments of all of them in one
+     * IN query; with the list query that is two statements per page.
+     */
+    private List<TaskResponse> toResponses(List<TaskListView> views) {
+        if (views.isEmpty()) return List.of();
 
-        return tasks.map(TaskResponse::fromEntity);
+        Map<UUID, List<AttachmentResponse>> attachmentsByTask = attachmentRepository
+                .findByTaskIdIn(views.stream().map(TaskListView::id).toList()).stream()
+                .collect(Collectors.groupingBy(attachment -> attachment.getTask().getId(),
+                        Collectors.mapping(AttachmentResponse::fromEntity, Collectors.toList())));
+
+        return views.stream()
+                .map(view -> TaskResponse.fromView(view, attachmentsByTask.getOrDefault(view.id(), List.of())))
+                .toList();
+    }
+
+    /**
+     * Total taken from maintained counters when the filter maps onto one: the per-user
+     * stats table for no filter, status, priority, overdue or due today, and the
+     * project counter for a project. Empty for any other combination.
+     */
+    private Optional<Long> estimateTotal(UUID userId, TaskFilterRequest filter, String search) {
+        boolean status = filter.getStatus() != null;
+        boolean priority = filter.getPriority() != null;
+        boolean project = filter.getProjectId() != null;
+        boolean overdue = Boolean.TRUE.equals(filter.getOverdue());
+        boolean dueToday = Boolean.TRUE.equals(filter.getDueToday());
+        boolean dueRange = filter.getStartDate() != null || filter.getEndDate() != null;
+        int filters = (status ? 1 : 0) + (priority ? 1 : 0) + (project ? 1 : 0) + (overdue ? 1 : 0) + (dueToday ? 1 : 0);
+
+        if (search != null || dueRange || filters > 1) {
+            return Optional.empty();
+        }
+        if (project) {
+            return projectRepository.findByIdAndUserId(filter.getProjectId(), userId)
+                    .map(p -> (long) p.getTaskCount())
+                    .or(() -> Optional.of(0L));
+        }
+        if (overdue || dueToday) {
+            TaskCountSummary summary = userTaskStatsService.getTaskCountSummary(userId, LocalDateTime.now());
+            return Optional.of(overdue ? summary.overdue() : summary.dueToday());
+        }
+        UserTaskStatsService.TaskHistogram histogram = userTaskStatsService.getHistogram(userId);
+        if (status) {
+            return Optional.of(histogram.statusCounts().get(filter.getStatus()));
+        }
+        if (priority) {
+            return Optional.of(histogram.priorityCounts().get(filter.getPriority()));
+        }
+        return Optional.of(histogram.statusCounts().values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    private long countTasks(UUID userId, TaskFilterRequest filter, String search, boolean fullText, boolean rankedSearch) {
+        Specification<Task> spec = rankedSearch
+                ? Specification.allOf(TaskSpecifications.liveTasksOf(userId), TaskSpecifications.matchesFullText(userId, search))
+                : filterSpecification(userId, filter, search, fullText);
+        return taskRepository.count(spec);
+    }
+
+    private Specification<Task> sortedSpecification(UUID userId, TaskFilterRequest filter, String search,
+                                                    boolean fullText, TaskSortField sortField,
+                                                    Sort.Direction direction) {
+        return Specification.allOf(
+                filterSpecification(userId, filter, search, fullText),
+                TaskSpecifications.sortedBy(sortField, direction));
+    }
+
+    // Filters and sort of the list endpoint, for callers that read the whole result (export)
+    public Specification<Task> listSpecification(UUID userId, TaskFilterRequest filter) {
+        String search = normalizedSearch(filter);
+        return sortedSpecification(userId, filter, search, useFullText(search),
+                TaskSortField.fromParam(filter.getSortBy()), sortDirection(filter));
+    }
+
+    /**
+     * Keyset variant of {@link #getTasks}: seeks past the cursor on the sort index
+     * instead of using OFFSET, and skips the COUNT query, so every slice costs the same.
+     */
+    public CursorPageResponse<TaskResponse> getTasksByCursor(UUID userId, TaskFilterRequest filter) {
+        TaskSortField sortField = TaskSortField.fromParam(filter.getSortBy());
+        Sort.Direction direction = sortDirection(filter);
+        if (!sortField.supportsKeyset()) {
+            throw new ValidationException("Cursor pagination supports sortBy createdAt, updatedAt or title");
+        }
+
+        String search = normalizedSearch(filter);
+        boolean fullText = useFullText(search);
+
+        Specification<Task> spec = sortedSpecification(userId, filter, search, fullText, sortField, direction);
+
+        if (filter.getCursor() != null && !filter.getCursor().isBlank()) {
+            TaskCursor cursor = TaskCursor.decode(filter.getCursor());
+            if (cursor.sortField() != sortField || cursor.direction() != direction) {
+                throw new ValidationException("Cursor was issued for a different sortBy/sortDirection");
+            }
+            Object sortValue = sortField == TaskSortField.TITLE ? cursor.sortValue() : cursor.sortValueAsDateTime();
+            spec = spec.and(TaskSpecifications.seekAfter(sortField, direction, sortValue, cursor.id()));
+        }
+
+        // One row past the slice tells whether there is a next one
+        int size = filter.getSize();
+        List<TaskListView> rows = taskRepository.findListViews(spec, 0, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<TaskListView> content = hasNext ? rows.subList(0, size) : rows;
+
+        return CursorPageResponse.<TaskResponse>builder()
+                .content(toResponses(content))
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? TaskCursor.after(content.get(size - 1), sortField, direction).encode() : null)
+                .build();
+    }
+
+    private Specification<Task> filterSpecification(UUID userId, TaskFilterRequest filter,
+                                                    String search, boolean fullText) {
+        LocalDateTime now = LocalDateTime.now();
+        return Specification.allOf(
+                TaskSpecifications.liveTasksOf(userId),
+                TaskSpecifications.hasStatus(filter.getStatus()),
+                TaskSpecifications.hasPriority(filter.getPriority()),
+                TaskSpecifications.inProject(filter.getProjectId()),
+                TaskSpecifications.dueBetween(filter.getStartDate(), filter.getEndDate()),
+                TaskSpecifications.overdue(filter.getOverdue(), now),
+                TaskSpecifications.dueToday(filter.getDueToday(), now.toLocalDate()),
+                fullText
+                        ? TaskSpecifications.matchesFullText(userId, search)
+                        : TaskSpecifications.containsText(search));
+    }
+
+    private static Sort.Direction sortDirection(TaskFilterRequest filter) {
+        return Sort.Direction.fromOptionalString(filter.getSortDirection())
+                .orElseThrow(() -> new ValidationException("sortDirection must be 'asc' or 'desc'"));
+    }
+
+    private static String normalizedSearch(TaskFilterRequest filter) {
+        return filter.getSearch() != null && !filter.getSearch().isBlank() ? filter.getSearch().trim() : null;
+    }
+
+    private boolean useFullText(String search) {
+        return search != null && fullTextSearch && !TaskRepository.toPrefixTsQuery(search).isEmpty();
+    }
+
+    private static boolean hasStructuredFilters(TaskFilterRequest filter) {
+        return filter.getStatus() != null
+                || filter.getPriority() != null
+                || filter.getProjectId() != null
+                || filter.getStartDate() != null
+                || filter.getEndDate() != null
+                || Boolean.TRUE.equals(filter.getOverdue())
+                || Boolean.TRUE.equals(filter.getDueToday());
     }
 
     public TaskResponse createTask(UUID userId, TaskCreateRequest request) {
@@ -77,6 +278,7 @@ public class TaskService {
         }
 
         Task task = taskRepository.save(taskBuilder.build());
+        eventPublisher.publishEvent(TaskChangedEvent.created(TaskSnapshot.of(task)));
         return TaskResponse.fromEntity(task);
     }
 
@@ -89,6 +291,8 @@ public class TaskService {
             throw new UnauthorizedAccessException("You don't have permission to update this task");
         }
 
+        TaskSnapshot before = TaskSnapshot.of(task);
+
         // Update fields (partial updates allowed)
         if (request.getTitle() != null) {
             task.setTitle(request.getTitle());
@@ -102,18 +306,18 @@ public class TaskService {
         if (request.getDueDate() != null) {
             task.setDueDate(request.getDueDate().atStartOfDay());
         }
+        if (request.getProjectId() != null &&
+                (task.getProject() == null || !request.getProjectId().equals(task.getProject().getId()))) {
+            Project project = projectRepository.findByIdAndUserId(request.getProjectId(), userId)
+                    .orElseThrow(() -> new ProjectNotFoundException("Project not found"));
+            task.setProject(project);
+        }
 
         // Handle status change
-        if (request.getStatus() != null && request.getStatus() != task.getStatus()) {
-            task.setStatus(request.getStatus());
-            if (request.getStatus() == TaskStatus.DONE) {
-                task.setCompletedAt(LocalDateTime.now());
-            } else {
-                task.setCompletedAt(null);
-            }
-        }
+        task.changeStatus(request.getStatus());
 
         Task updatedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(new TaskChangedEvent(before, TaskSnapshot.of(updatedTask)));
         return TaskResponse.fromEntity(updatedTask);
     }
 
@@ -125,10 +329,13 @@ public class TaskService {
             throw new UnauthorizedAccessException("You don't have permission to delete this task");
         }
 
+        TaskSnapshot before = TaskSnapshot.of(task);
+
         // Soft delete
         task.setIsDeleted(true);
         task.setDeletedAt(LocalDateTime.now());
         taskRepository.save(task);
+        eventPublisher.publishEvent(new TaskChangedEvent(before, TaskSnapshot.of(task)));
     }
 
     public TaskResponse getTask(UUID id, UUID taskId) {
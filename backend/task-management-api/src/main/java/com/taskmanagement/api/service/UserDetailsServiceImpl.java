@@ -1,37 +1,99 @@
 package com.taskmanagement.api.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.taskmanagement.api.entity.User;
 import com.taskmanagement.api.repository.UserRepository;
 import com.taskmanagement.api.security.UserPrincipal;
-import lombok.RequiredArgsConstructor;
+import com.taskmanagement.api.security.UserSecurityChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Duration;
 import java.util.UUID;
 
 @Service
-@RequiredArgsConstructor
+@Slf4j
 public class UserDetailsServiceImpl implements UserDetailsService {
 
     private final UserRepository userRepository;
 
+    // Principals are cached under both keys; a security change on the user evicts both entries
+    private final Cache<String, UserPrincipal> byUsername;
+    private final Cache<UUID, UserPrincipal> byId;
+    private final Counter invalidations;
+
+    public UserDetailsServiceImpl(UserRepository userRepository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.security.principal-cache.maximum-size:10000}") long maximumSize,
+                                  @Value("${app.security.principal-cache.expire-after-write:5m}") Duration expireAfterWrite) {
+        this.userRepository = userRepository;
+        this.byUsername = newCache(maximumSize, expireAfterWrite);
+        this.byId = newCache(maximumSize, expireAfterWrite);
+        CaffeineCacheMetrics.monitor(meterRegistry, byUsername, "userPrincipalByUsername");
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "userPrincipalById");
+        this.invalidations = Counter.builder("user.principal.cache.invalidations")
+                .description("Principal cache entries dropped because the user's security state changed")
+                .register(meterRegistry);
+    }
+
+    // Not @Transactional: a cache hit must not open a transaction or borrow a connection
     @Override
-    @Transactional
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
-
-        return new UserPrincipal(user);
+        UserPrincipal principal = byUsername.getIfPresent(username);
+        if (principal == null) {
+            User user = userRepository.findByUsername(username)
+                    .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
+            principal = cache(new UserPrincipal(user));
+        }
+        return principal;
     }
 
-    @Transactional
     public UserDetails loadUserById(UUID id) {
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + id));
+        UserPrincipal principal = byId.getIfPresent(id);
+        if (principal == null) {
+            User user = userRepository.findById(id)
+                    .orElseThrow(() -> new UsernameNotFoundException("User not found: " + id));
+            principal = cache(new UserPrincipal(user));
+        }
+        return principal;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserSecurityChanged(UserSecurityChangedEvent event) {
+        evict(event.userId(), event.username());
+    }
+
+    public void evict(UUID userId, String username) {
+        if (userId != null) {
+            byId.invalidate(userId);
+        }
+        if (username != null) {
+            byUsername.invalidate(username);
+        }
+        invalidations.increment();
+        log.debug("Evicted cached principal for user: {} ({})", username, userId);
+    }
+
+    private UserPrincipal cache(UserPrincipal principal) {
+        byUsername.put(principal.getUsername(), principal);
+        byId.put(principal.getId(), principal);
+        return principal;
+    }
 
-        return new UserPrincipal(user);
+    private static <K> Cache<K, UserPrincipal> newCache(long maximumSize, Duration expireAfterWrite) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
     }
 }
@@ -6,15 +6,51 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
-import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 
 public class UserPrincipal implements UserDetails {
 
+    public static final List<String> DEFAULT_ROLES = List.of("ROLE_USER");
+
+    // Null when the principal was built from token claims rather than loaded from the database
     private final User user;
+    private final UUID id;
+    private final String username;
+    private final String email;
+    private final String password;
+    private final boolean active;
+    private final boolean emailVerified;
+    private final List<GrantedAuthority> authorities;
 
     public UserPrincipal(User user) {
+        this(user, user.getId(), user.getUsername(), user.getEmail(), user.getPassword(),
+                user.getIsActive(), user.getEmailVerified(), DEFAULT_ROLES);
+    }
+
+    private UserPrincipal(User user, UUID id, String username, String email, String password,
+                          Boolean active, Boolean emailVerified, List<String> roles) {
         this.user = user;
+        this.id = id;
+        this.username = username;
+        this.email = email;
+        this.password = password;
+        this.active = Boolean.TRUE.equals(active);
+        this.emailVerified = Boolean.TRUE.equals(emailVerified);
+        this.authorities = roles.stream()
+                .map(SimpleGrantedAuthority::new)
+                .map(GrantedAuthority.class::cast)
+                .toList();
+    }
+
+    /**
+     * Builds a principal from signed access-token claims without touching the
+     * users table; {@code state} supplies the fields a token cannot vouch for.
+     */
+    public static UserPrincipal fromClaims(JwtClaims claims, UserAuthState state) {
+        List<String> roles = claims.roles().isEmpty() ? DEFAULT_ROLES : claims.roles();
+        return new UserPrincipal(null, claims.userId(), claims.username(), claims.email(), null,
+                state.isActive(), state.emailVerified(), roles);
     }
 
     public User getUser() {
@@ -22,22 +58,26 @@ public class UserPrincipal implements UserDetails {
     }
 
     public UUID getId() {
-        return user.getId();
+        return id;
+    }
+
+    public String getEmail() {
+        return email;
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"));
+        return authorities;
     }
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return password;
     }
 
     @Override
     public String getUsername() {
-        return user.getUsername();
+        return username;
     }
 
     @Override
@@ -47,7 +87,7 @@ public class UserPrincipal implements UserDetails {
 
     @Override
     public boolean isAccountNonLocked() {
-        return user.getIsActive();
+        return active;
     }
 
     @Override
@@ -57,6 +97,6 @@ public class UserPrincipal implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return user.getIsActive() && user.getEmailVerified();
+        return active && emailVerified;
     }
 }
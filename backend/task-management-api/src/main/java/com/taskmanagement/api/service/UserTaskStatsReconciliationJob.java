@@ -0,0 +1,63 @@
+package com.taskmanagement.api.service;
+
+import com.taskmanagement.api.repository.UserTaskStatRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Periodically compares the {@code user_task_stats} counters with the tasks table
+ * and rebuilds the stats of every user whose stored counts had drifted, e.g. after
+ * a project delete job failed between its batches.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "app.tasks.stats-reconciliation.enabled", havingValue = "true", matchIfMissing = true)
+public class UserTaskStatsReconciliationJob {
+
+    private final UserTaskStatRepository statRepository;
+    private final UserTaskStatsService statsService;
+    private final Counter driftCounter;
+
+    public UserTaskStatsReconciliationJob(UserTaskStatRepository statRepository,
+                                          UserTaskStatsService statsService,
+                                          MeterRegistry meterRegistry) {
+        this.statRepository = statRepository;
+        this.statsService = statsService;
+        this.driftCounter = Counter.builder("user_task_stats.drift")
+                .description("Users whose dashboard task counters disagreed with the tasks table")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${app.tasks.stats-reconciliation.initial-delay:PT1M}",
+            fixedDelayString = "${app.tasks.stats-reconciliation.interval:PT6H}")
+    @Transactional
+    public int reconcile() {
+        List<UUID> drifted = statRepository.findDriftedUserIds();
+        if (drifted.isEmpty()) {
+            log.debug("User task stats are consistent");
+            return 0;
+        }
+
+        // The drift query ran without locks, so a user may only have looked off because a
+        // task write was in flight; the locked recheck settles which ones really drifted
+        int reconciled = 0;
+        for (UUID userId : drifted) {
+            if (statsService.reconcile(userId)) {
+                log.warn("Task stats drift for user {}; rebuilt from the tasks table", userId);
+                reconciled++;
+            }
+        }
+
+        driftCounter.increment(reconciled);
+        log.info("Reconciled task stats for {} user(s)", reconciled);
+        return reconciled;
+    }
+}
@@ -0,0 +1,256 @@
+package com.taskmanagement.api.service;
+
+import com.taskmanagement.api.dto.response.DailyTaskStats;
+import com.taskmanagement.api.entity.UserTaskStat;
+import com.taskmanagement.api.entity.UserTaskStatId;
+import com.taskmanagement.api.enums.JobType;
+import com.taskmanagement.api.enums.TaskPriority;
+import com.taskmanagement.api.enums.TaskStatDimension;
+import com.taskmanagement.api.enums.TaskStatus;
+import com.taskmanagement.api.event.ProjectTasksSoftDeletedEvent;
+import com.taskmanagement.api.event.TaskBatchChangedEvent;
+import com.taskmanagement.api.event.TaskChangedEvent;
+import com.taskmanagement.api.event.TaskSnapshot;
+import com.taskmanagement.api.event.TasksImportedEvent;
+import com.taskmanagement.api.repository.TaskRepository;
+import com.taskmanagement.api.repository.UserTaskStatRepository;
+import com.taskmanagement.api.repository.projection.TaskCountSummary;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Maintains the per-user {@code user_task_stats} table incrementally from task
+ * writes and answers the dashboard queries from it, so reads cost the same for a
+ * user with ten tasks as for one with a hundred thousand.
+ *
+ * <p>Stats for a user are built from the tasks table on first read (and after
+ * bulk writes that bypass {@link TaskChangedEvent}); afterwards every task write
+ * applies its before/after difference as relative upserts.</p>
+ *
+ * <p>A user can also ask for a rebuild as a {@link JobType#TASK_STATS_REBUILD} job, and
+ * {@link UserTaskStatsReconciliationJob} rebuilds stats that have drifted.</p>
+ */
+@Service
+@Slf4j
+public class UserTaskStatsService implements JobHandler {
+
+    private static final String INITIALIZED = "initialized";
+
+    private final UserTaskStatRepository statRepository;
+    private final TaskRepository taskRepository;
+    // The first-read backfill writes, so it cannot join the caller's read-only transaction
+    private final TransactionTemplate backfillTransaction;
+
+    public UserTaskStatsService(UserTaskStatRepository statRepository,
+                                TaskRepository taskRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.statRepository = statRepository;
+        this.taskRepository = taskRepository;
+        this.backfillTransaction = new TransactionTemplate(transactionManager);
+        this.backfillTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public record TaskHistogram(Map<TaskStatus, Long> statusCounts, Map<TaskPriority, Long> priorityCounts) {
+    }
+
+    private record StatKey(TaskStatDimension dimension, String bucket) implements Comparable<StatKey> {
+        @Override
+        public int compareTo(StatKey other) {
+            int byDimension = dimension.compareTo(other.dimension);
+            return byDimension != 0 ? byDimension : bucket.compareTo(other.bucket);
+        }
+    }
+
+    // ---- Incremental maintenance (runs inside the writing transaction) ----
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTaskChanged(TaskChangedEvent event) {
+        applyAll(List.of(event));
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTaskBatchChanged(TaskBatchChangedEvent event) {
+        applyAll(event.changes());
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onProjectTasksSoftDeleted(ProjectTasksSoftDeletedEvent event) {
+        rebuild(event.userId());
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTasksImported(TasksImportedEvent event) {
+        rebuild(event.userId());
+    }
+
+    private void applyAll(List<TaskChangedEvent> changes) {
+        Map<UUID, Map<StatKey, Long>> deltas = new TreeMap<>();
+        for (TaskChangedEvent change : changes) {
+            UUID userId = change.after() != null ? change.after().userId() : change.before().userId();
+            Map<StatKey, Long> delta = deltas.computeIfAbsent(userId, id -> new TreeMap<>());
+            contribute(delta, change.after(), 1);
+            contribute(delta, change.before(), -1);
+        }
+
+        // TreeMap order gives every writer the same lock order
+        deltas.forEach((userId, delta) -> {
+            statRepository.lockForUser(userId);
+            delta.forEach((key, change) -> {
+                if (change != 0) {
+                    statRepository.increment(userId, key.dimension().name(), key.bucket(), change);
+                }
+            });
+        });
+    }
+
+    private static void contribute(Map<StatKey, Long> delta, TaskSnapshot task, long sign) {
+        if (task == null || !task.isLive()) return;
+
+        LocalDate createdDay = task.createdAt() != null ? task.createdAt().toLocalDate() : LocalDate.now();
+        delta.merge(new StatKey(TaskStatDimension.STATUS, task.status().name()), sign, Long::sum);
+        delta.merge(new StatKey(TaskStatDimension.PRIORITY, task.priority().name()), sign, Long::sum);
+        delta.merge(new StatKey(TaskStatDimension.CREATED_DAY, createdDay.toString()), sign, Long::sum);
+        if (task.isDone()) {
+            delta.merge(new StatKey(TaskStatDimension.CREATED_DAY_DONE, createdDay.toString()), sign, Long::sum);
+        } else if (task.dueDate() != null) {
+            delta.merge(new StatKey(TaskStatDimension.DUE_DAY_OPEN, task.dueDate().toLocalDate().toString()), sign, Long::sum);
+        }
+    }
+
+    // ---- Rebuild ----
+
+    @Override
+    public JobType type() {
+        return JobType.TASK_STATS_REBUILD;
+    }
+
+    @Override
+    public void run(JobContext context) {
+        backfillTransaction.executeWithoutResult(status -> rebuild(context.userId()));
+    }
+
+    /**
+     * Recounts a user's stats from the tasks table. Holds the user's stats lock, so a
+     * concurrent task write either commits before the recount (and is in it) or
+     * applies its delta after the rebuild commits.
+     */
+    @Transactional
+    public void rebuild(UUID userId) {
+        statRepository.lockForUser(userId);
+        statRepository.deleteByUserId(userId);
+        statRepository.rebuildForUser(userId);
+        log.info("Rebuilt task stats for user: {}", userId);
+    }
+
+    /**
+     * Rebuilds a user's stats if they disagree with the tasks table, checked under the
+     * user's stats lock. Returns whether they did.
+     */
+    @Transactional
+    public boolean reconcile(UUID userId) {
+        statRepository.lockForUser(userId);
+        if (statRepository.countDriftedBuckets(userId) == 0) {
+            return false;
+        }
+        rebuild(userId);
+        return true;
+    }
+
+    // Must not run inside a transaction that has written this user's tasks: the
+    // backfill's own transaction would wait for that one's stats lock forever
+    private void ensureInitialized(UUID userId) {
+        if (statRepository.existsById(new UserTaskStatId(userId, TaskStatDimension.META, INITIALIZED))) {
+            return;
+        }
+        backfillTransaction.executeWithoutResult(status -> {
+            // Re-check inside the new transaction; a concurrent request may have built it already
+            if (!statRepository.existsById(new UserTaskStatId(userId, TaskStatDimension.META, INITIALIZED))) {
+                rebuild(userId);
+            }
+        });
+    }
+
+    // ---- Reads ----
+
+    @Transactional(readOnly = true)
+    public TaskHistogram getHistogram(UUID userId) {
+        ensureInitialized(userId);
+        List<UserTaskStat> rows = statRepository.findByUserIdAndDimensions(userId,
+                List.of(TaskStatDimension.STATUS, TaskStatDimension.PRIORITY));
+
+        // Every enum value is reported, including those with no tasks
+        Map<TaskStatus, Long> statusCounts = new EnumMap<>(TaskStatus.class);
+        Arrays.stream(TaskStatus.values()).forEach(status -> statusCounts.put(status, 0L));
+        Map<TaskPriority, Long> priorityCounts = new EnumMap<>(TaskPriority.class);
+        Arrays.stream(TaskPriority.values()).forEach(priority -> priorityCounts.put(priority, 0L));
+
+        for (UserTaskStat row : rows) {
+            String bucket = row.getId().getBucket();
+            if (row.getId().getDimension() == TaskStatDimension.STATUS) {
+                statusCounts.put(TaskStatus.valueOf(bucket), row.getTaskCount());
+            } else {
+                priorityCounts.put(TaskPriority.valueOf(bucket), row.getTaskCount());
+            }
+        }
+        return new TaskHistogram(statusCounts, priorityCounts);
+    }
+
+    @Transactional(readOnly = true)
+    public TaskCountSummary getTaskCountSummary(UUID userId, LocalDateTime now) {
+        Map<TaskStatus, Long> statusCounts = getHistogram(userId).statusCounts();
+        long total = statusCounts.values().stream().mapToLong(Long::longValue).sum();
+        long completed = statusCounts.get(TaskStatus.DONE);
+
+        // Overdue/due-today depend on the clock, so they come from the due-day buckets:
+        // whole days before today, plus the part of today that has already passed
+        LocalDate today = now.toLocalDate();
+        Object[] dueBuckets = statRepository.sumOpenDueBucketsRaw(userId, today.toString()).get(0);
+        long dueBeforeToday = ((Number) dueBuckets[0]).longValue();
+        long dueToday = ((Number) dueBuckets[1]).longValue();
+        long overdueToday = dueToday > 0
+                ? taskRepository.countOpenTasksDueBetween(userId, today.atStartOfDay(), now)
+                : 0;
+
+        return new TaskCountSummary(total, completed, total - completed, dueBeforeToday + overdueToday, dueToday);
+    }
+
+    @Transactional(readOnly = true)
+    public List<DailyTaskStats> getDailyStats(UUID userId, LocalDate fromDay) {
+        ensureInitialized(userId);
+        List<UserTaskStat> rows = statRepository.findByUserIdAndDimensionsFrom(userId,
+                List.of(TaskStatDimension.CREATED_DAY, TaskStatDimension.CREATED_DAY_DONE), fromDay.toString());
+
+        Map<String, long[]> byDay = new TreeMap<>(Comparator.reverseOrder());
+        for (UserTaskStat row : rows) {
+            long[] counts = byDay.computeIfAbsent(row.getId().getBucket(), day -> new long[2]);
+            counts[row.getId().getDimension() == TaskStatDimension.CREATED_DAY ? 0 : 1] = row.getTaskCount();
+        }
+
+        List<DailyTaskStats> dailyStats = new ArrayList<>();
+        byDay.forEach((day, counts) -> {
+            if (counts[0] > 0) {
+                dailyStats.add(DailyTaskStats.builder()
+                        .date(LocalDate.parse(day))
+                        .created((int) counts[0])
+                        .completed((int) counts[1])
+                        .totalActive((int) counts[0])
+                        .build());
+            }
+        });
+        return dailyStats;
+    }
+}
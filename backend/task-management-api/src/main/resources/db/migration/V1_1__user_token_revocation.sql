@@ -0,0 +1,2 @@
+-- Issued-before cutoff for access tokens; a nullable column is a catalog-only change
+ALTER TABLE users ADD COLUMN IF NOT EXISTS tokens_revoked_at TIMESTAMP(6);
@@ -0,0 +1,20 @@
+-- Denormalized per-project task counters, maintained on every task write.
+-- Constant defaults are stored in the catalog, so adding the columns does not rewrite projects.
+ALTER TABLE projects
+    ADD COLUMN IF NOT EXISTS task_count           INTEGER DEFAULT 0 NOT NULL,
+    ADD COLUMN IF NOT EXISTS completed_task_count INTEGER DEFAULT 0 NOT NULL;
+
+-- Fill the counters for existing projects so they are right before the first reconciliation
+UPDATE projects p SET
+    task_count = a.total,
+    completed_task_count = a.completed
+FROM (
+    SELECT
+        project_id,
+        COUNT(*) AS total,
+        COUNT(*) FILTER (WHERE status = 'DONE') AS completed
+    FROM tasks
+    WHERE project_id IS NOT NULL AND is_deleted = false
+    GROUP BY project_id
+) a
+WHERE p.id = a.project_id;
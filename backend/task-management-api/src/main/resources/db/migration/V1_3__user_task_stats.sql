@@ -0,0 +1,9 @@
+-- Per-user dashboard counters; filled lazily by UserTaskStatsService on first read
+CREATE TABLE IF NOT EXISTS user_task_stats (
+    user_id    UUID        NOT NULL,
+    dimension  VARCHAR(20) NOT NULL CHECK (dimension IN ('STATUS', 'PRIORITY', 'CREATED_DAY', 'CREATED_DAY_DONE',
+                                                         'DUE_DAY_OPEN', 'META')),
+    bucket     VARCHAR(40) NOT NULL,
+    task_count BIGINT      NOT NULL,
+    PRIMARY KEY (user_id, dimension, bucket)
+);
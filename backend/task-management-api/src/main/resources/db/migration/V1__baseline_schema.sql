@@ -0,0 +1,84 @@
+-- Baseline: the schema previously produced by hibernate ddl-auto=update.
+-- Existing databases are baselined at this version and skip this script.
+
+CREATE TABLE users (
+    id                              UUID         NOT NULL PRIMARY KEY,
+    username                        VARCHAR(50)  NOT NULL UNIQUE,
+    email                           VARCHAR(100) NOT NULL UNIQUE,
+    first_name                      VARCHAR(50)  NOT NULL,
+    last_name                       VARCHAR(50)  NOT NULL,
+    password                        VARCHAR(255) NOT NULL,
+    profile_picture                 VARCHAR(255),
+    is_active                       BOOLEAN      NOT NULL,
+    email_verified                  BOOLEAN      NOT NULL,
+    email_verification_token        VARCHAR(255),
+    email_verification_token_expiry TIMESTAMP(6),
+    password_reset_token            VARCHAR(255),
+    password_reset_token_expiry     TIMESTAMP(6),
+    created_at                      TIMESTAMP(6),
+    updated_at                      TIMESTAMP(6),
+    last_login_at                   TIMESTAMP(6)
+);
+
+CREATE TABLE projects (
+    id                   UUID         NOT NULL PRIMARY KEY,
+    name                 VARCHAR(80)  NOT NULL,
+    description          VARCHAR(500),
+    color                VARCHAR(7),
+    deadline             TIMESTAMP(6),
+    user_id              UUID         NOT NULL REFERENCES users (id),
+    created_at           TIMESTAMP(6),
+    updated_at           TIMESTAMP(6)
+);
+
+CREATE TABLE tasks (
+    id           UUID          NOT NULL PRIMARY KEY,
+    title        VARCHAR(100)  NOT NULL,
+    description  VARCHAR(1000),
+    status       VARCHAR(255)  NOT NULL CHECK (status IN ('TODO', 'IN_PROGRESS', 'DONE', 'CANCELLED')),
+    priority     VARCHAR(255)  NOT NULL CHECK (priority IN ('LOW', 'MEDIUM', 'HIGH', 'CRITICAL')),
+    due_date     TIMESTAMP(6),
+    completed_at TIMESTAMP(6),
+    user_id      UUID          NOT NULL REFERENCES users (id),
+    project_id   UUID          REFERENCES projects (id),
+    is_deleted   BOOLEAN       NOT NULL,
+    deleted_at   TIMESTAMP(6),
+    created_at   TIMESTAMP(6),
+    updated_at   TIMESTAMP(6)
+);
+
+CREATE TABLE attachments (
+    id                UUID         NOT NULL PRIMARY KEY,
+    filename          VARCHAR(255) NOT NULL,
+    original_filename VARCHAR(255) NOT NULL,
+    file_path         VARCHAR(500) NOT NULL,
+    file_size         BIGINT       NOT NULL,
+    mime_type         VARCHAR(100) NOT NULL,
+    task_id           UUID         NOT NULL REFERENCES tasks (id),
+    uploaded_at       TIMESTAMP(6)
+);
+
+CREATE TABLE notifications (
+    id              UUID         NOT NULL PRIMARY KEY,
+    user_id         UUID         NOT NULL REFERENCES users (id),
+    type            VARCHAR(50)  NOT NULL CHECK (type IN ('TASK_DUE_SOON', 'TASK_OVERDUE', 'TASK_COMPLETED',
+                                                          'TASK_ASSIGNED', 'PROJECT_DEADLINE', 'SYSTEM_NOTIFICATION')),
+    title           VARCHAR(100) NOT NULL,
+    message         VARCHAR(500) NOT NULL,
+    is_read         BOOLEAN      NOT NULL,
+    related_task_id UUID         REFERENCES tasks (id),
+    created_at      TIMESTAMP(6),
+    read_at         TIMESTAMP(6)
+);
+
+CREATE TABLE user_sessions (
+    id            UUID         NOT NULL PRIMARY KEY,
+    user_id       UUID         NOT NULL REFERENCES users (id),
+    refresh_token VARCHAR(255) NOT NULL UNIQUE,
+    expires_at    TIMESTAMP(6) NOT NULL,
+    created_at    TIMESTAMP(6),
+    last_used_at  TIMESTAMP(6),
+    user_agent    VARCHAR(255),
+    ip_address    VARCHAR(255),
+    is_active     BOOLEAN      NOT NULL
+);
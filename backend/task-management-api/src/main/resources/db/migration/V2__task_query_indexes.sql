@@ -0,0 +1,48 @@
+-- Partial indexes matched to the repository query shapes. Every task read filters
+-- on is_deleted = false, so soft-deleted rows are left out of the indexes entirely.
+-- Built CONCURRENTLY so existing large tables stay writable; Flyway runs this
+-- script outside a transaction because of it.
+
+-- Task lists: user_id [+ status | project_id | priority], newest first
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_user_created
+    ON tasks (user_id, created_at DESC) WHERE is_deleted = false;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_user_status_created
+    ON tasks (user_id, status, created_at DESC) WHERE is_deleted = false;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_user_priority_created
+    ON tasks (user_id, priority, created_at DESC) WHERE is_deleted = false;
+
+-- Project task lists, project soft delete and counter recomputation
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_project_created
+    ON tasks (project_id, created_at DESC) WHERE is_deleted = false;
+
+-- Overdue / due-today counts (per user and per project) only look at open tasks
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_user_open_due
+    ON tasks (user_id, due_date) WHERE is_deleted = false AND status <> 'DONE';
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_project_open_due
+    ON tasks (project_id, due_date) WHERE is_deleted = false AND status <> 'DONE';
+
+-- Activity feed branches
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_user_updated
+    ON tasks (user_id, updated_at DESC) WHERE is_deleted = false;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_user_completed
+    ON tasks (user_id, completed_at DESC) WHERE is_deleted = false AND status = 'DONE';
+
+-- Foreign keys used as lookup paths elsewhere
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_projects_user_created
+    ON projects (user_id, created_at DESC);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_projects_user_deadline
+    ON projects (user_id, deadline) WHERE deadline IS NOT NULL;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_attachments_task
+    ON attachments (task_id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_notifications_user_created
+    ON notifications (user_id, created_at DESC);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_user_sessions_user
+    ON user_sessions (user_id);
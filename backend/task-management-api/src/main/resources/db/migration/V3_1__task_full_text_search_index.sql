@@ -0,0 +1,3 @@
+-- Built CONCURRENTLY, apart from V3, so tasks stays writable while it builds
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_user_search
+    ON tasks USING gin (user_id, task_search_vector(title, description)) WHERE is_deleted = false;
@@ -0,0 +1,16 @@
+-- Full-text search over task title (weight A) and description (weight B).
+-- The 'simple' configuration keeps words unstemmed so prefix queries (term:*) match
+-- what the user typed. The vector is an indexed expression rather than a stored
+-- column, so tasks is not rewritten; queries call the same function to use the index.
+CREATE OR REPLACE FUNCTION task_search_vector(title TEXT, description TEXT) RETURNS TSVECTOR
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE AS $$
+        SELECT setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+               setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+    $$;
+
+-- btree_gin lets user_id share the GIN index, so a search only visits the caller's tasks
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+-- pg_trgm backs the project search indexes in V4, which are built CONCURRENTLY and so
+-- cannot share a migration with this transactional statement
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
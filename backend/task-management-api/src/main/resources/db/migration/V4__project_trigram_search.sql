@@ -0,0 +1,9 @@
+-- Trigram indexes for project search: they serve both LIKE '%term%' substring
+-- matches and the word-similarity (<%) operator used for typo-tolerant matching.
+-- The pg_trgm extension is created in V3.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_projects_user_name_trgm
+    ON projects USING gin (user_id, lower(name) gin_trgm_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_projects_user_description_trgm
+    ON projects USING gin (user_id, lower(description) gin_trgm_ops);
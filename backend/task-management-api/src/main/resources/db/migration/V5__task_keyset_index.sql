@@ -0,0 +1,6 @@
+-- Keyset pagination seeks on (created_at, id); include id so the tiebreaker is
+-- resolved inside the index. Supersedes idx_tasks_user_created from V2.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_user_created_id
+    ON tasks (user_id, created_at DESC, id DESC) WHERE is_deleted = false;
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_tasks_user_created;
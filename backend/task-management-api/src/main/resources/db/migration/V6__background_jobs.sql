@@ -0,0 +1,31 @@
+-- Persistent queue for long-running work (imports, large project deletes, stats
+-- rebuilds). Workers on every node claim rows with FOR UPDATE SKIP LOCKED, so the
+-- table is the only coordination point; no broker is needed.
+CREATE TABLE jobs (
+    id               UUID         NOT NULL PRIMARY KEY,
+    user_id          UUID         NOT NULL REFERENCES users (id),
+    type             VARCHAR(40)  NOT NULL CHECK (type IN ('TASK_IMPORT', 'PROJECT_DELETE', 'TASK_STATS_REBUILD')),
+    state            VARCHAR(20)  NOT NULL CHECK (state IN ('QUEUED', 'RUNNING', 'COMPLETED', 'FAILED', 'CANCELLED')),
+    payload          JSONB,
+    result           JSONB,
+    error            VARCHAR(1000),
+    progress_current BIGINT,
+    progress_total   BIGINT,
+    cancel_requested BOOLEAN      NOT NULL DEFAULT false,
+    attempts         INTEGER      NOT NULL DEFAULT 0,
+    -- Set for jobs whose input lives on one node (an uploaded file); only that node claims them
+    pinned_node      VARCHAR(100),
+    locked_by        VARCHAR(100),
+    heartbeat_at     TIMESTAMP(6),
+    created_at       TIMESTAMP(6),
+    started_at       TIMESTAMP(6),
+    finished_at      TIMESTAMP(6)
+);
+
+-- The claim query: oldest queued job first
+CREATE INDEX idx_jobs_queued ON jobs (created_at) WHERE state = 'QUEUED';
+
+-- The stale-job sweep only looks at running jobs
+CREATE INDEX idx_jobs_running_heartbeat ON jobs (heartbeat_at) WHERE state = 'RUNNING';
+
+CREATE INDEX idx_jobs_user_created ON jobs (user_id, created_at DESC);
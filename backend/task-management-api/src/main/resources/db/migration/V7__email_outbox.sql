@@ -0,0 +1,21 @@
+-- Outgoing mail, written in the transaction of the change that triggers it and
+-- delivered by EmailOutboxDispatcher. Rows stay PENDING (with a growing
+-- next_attempt_at) until sent, or become DEAD after the last failed attempt.
+CREATE TABLE email_outbox (
+    id              UUID          NOT NULL PRIMARY KEY,
+    recipient       VARCHAR(255)  NOT NULL,
+    subject         VARCHAR(255)  NOT NULL,
+    -- Thymeleaf template and its variables; plain-text mail has a body instead
+    template        VARCHAR(100),
+    variables       JSONB,
+    body            TEXT,
+    status          VARCHAR(20)   NOT NULL CHECK (status IN ('PENDING', 'SENT', 'DEAD')),
+    attempts        INTEGER       NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP(6)  NOT NULL,
+    last_error      VARCHAR(1000),
+    created_at      TIMESTAMP(6),
+    sent_at         TIMESTAMP(6)
+);
+
+-- The dispatcher's claim query and the queue-depth gauge only look at pending mail
+CREATE INDEX idx_email_outbox_due ON email_outbox (next_attempt_at) WHERE status = 'PENDING';
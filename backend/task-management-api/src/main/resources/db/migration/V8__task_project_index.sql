@@ -0,0 +1,5 @@
+-- Every task of a project, soft deleted ones included. Detaching the tasks of a
+-- deleted project and the foreign key check of DELETE FROM projects look tasks up
+-- this way; the partial indexes from V2 only cover live tasks.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_project
+    ON tasks (project_id) WHERE project_id IS NOT NULL;
@@ -0,0 +1,5 @@
+-- Access-token revocation by version instead of by issue time (see User.tokenVersion).
+-- Users who had logged out start at version 1, which rejects every token issued so far.
+ALTER TABLE users ADD COLUMN IF NOT EXISTS token_version INTEGER NOT NULL DEFAULT 0;
+UPDATE users SET token_version = 1 WHERE tokens_revoked_at IS NOT NULL;
+ALTER TABLE users DROP COLUMN IF EXISTS tokens_revoked_at;
@@ -0,0 +1,123 @@
+package com.taskmanagement.api.repository;
+
+import com.taskmanagement.api.entity.Job;
+import com.taskmanagement.api.enums.JobType;
+import com.taskmanagement.api.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Job claiming against PostgreSQL: {@code FOR UPDATE SKIP LOCKED} has to hand every
+ * queued job to exactly one of several concurrent pollers.
+ */
+class JobRepositoryTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository.deleteAllInBatch();
+        userId = createUser().getId();
+    }
+
+    @Test
+    void concurrentClaimsSkipRowsLockedByAnotherClaim() throws Exception {
+        Set<UUID> queued = queue(4, null);
+        CountDownLatch firstClaimed = new CountDownLatch(1);
+        CountDownLatch secondClaimed = new CountDownLatch(1);
+
+        // The first poller holds its row locks until the second one has claimed
+        CompletableFuture<List<UUID>> first = CompletableFuture.supplyAsync(() ->
+                transactionTemplate.execute(status -> {
+                    List<UUID> ids = ids(jobRepository.lockClaimable("node-a", 2));
+                    firstClaimed.countDown();
+                    await(secondClaimed);
+                    return ids;
+                }));
+        assertThat(firstClaimed.await(30, TimeUnit.SECONDS)).isTrue();
+
+        List<UUID> second;
+        try {
+            second = transactionTemplate.execute(status -> ids(jobRepository.lockClaimable("node-b", 10)));
+        } finally {
+            secondClaimed.countDown();
+        }
+
+        List<UUID> firstIds = first.get(30, TimeUnit.SECONDS);
+        assertThat(firstIds).hasSize(2);
+        assertThat(second).hasSize(2).doesNotContainAnyElementsOf(firstIds);
+        Set<UUID> all = new HashSet<>(firstIds);
+        all.addAll(second);
+        assertThat(all).isEqualTo(queued);
+    }
+
+    @Test
+    void claimReturnsRowsAgainOnceTheLockingTransactionEnds() {
+        Set<UUID> queued = queue(3, null);
+
+        transactionTemplate.executeWithoutResult(status ->
+                assertThat(jobRepository.lockClaimable("node-a", 10)).hasSize(3));
+
+        // Nothing changed their state, so the next poller sees all of them
+        List<UUID> again = transactionTemplate.execute(status -> ids(jobRepository.lockClaimable("node-b", 10)));
+        assertThat(again).containsExactlyInAnyOrderElementsOf(queued);
+    }
+
+    @Test
+    void pinnedJobsAreOnlyClaimedByTheirNode() {
+        Set<UUID> pinned = queue(2, "node-a");
+        Set<UUID> shared = queue(1, null);
+
+        List<UUID> otherNode = transactionTemplate.execute(status -> ids(jobRepository.lockClaimable("node-b", 10)));
+        assertThat(otherNode).containsExactlyInAnyOrderElementsOf(shared);
+
+        List<UUID> owningNode = transactionTemplate.execute(status -> ids(jobRepository.lockClaimable("node-a", 10)));
+        Set<UUID> expected = new HashSet<>(pinned);
+        expected.addAll(shared);
+        assertThat(owningNode).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    private Set<UUID> queue(int count, String pinnedNode) {
+        Set<UUID> ids = new HashSet<>();
+        IntStream.range(0, count).forEach(i -> ids.add(jobRepository.save(Job.builder()
+                .userId(userId)
+                .type(JobType.TASK_STATS_REBUILD)
+                .pinnedNode(pinnedNode)
+                .build()).getId()));
+        return ids;
+    }
+
+    private static List<UUID> ids(List<Job> jobs) {
+        return jobs.stream().map(Job::getId).toList();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(30, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Timed out waiting for the other claim");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package com.taskmanagement.api.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.api.dto.request.TaskFilterRequest;
+import com.taskmanagement.api.dto.response.CursorPageResponse;
+import com.taskmanagement.api.dto.response.TaskResponse;
+import com.taskmanagement.api.enums.CountMode;
+import com.taskmanagement.api.enums.TaskPriority;
+import com.taskmanagement.api.enums.TaskStatus;
+import com.taskmanagement.api.service.TaskService;
+import com.taskmanagement.api.support.TestPostgres;
+import org.flywaydb.core.Flyway;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs every task query the repository and the list endpoints issue against a
+ * seeded 1M-row tasks table, EXPLAINs each recorded statement as a generic plan
+ * (parameters unknown, as for a reused prepared statement) and fails if any of them
+ * reads tasks with a sequential scan.
+ *
+ * <p>Seeding takes over a minute, so the test is tagged slow and runs only with
+ * {@code -Pslow-tests}.</p>
+ */
+@Tag("slow")
+@SpringBootTest
+@ActiveProfiles("test")
+@ExtendWith(TestPostgres.Available.class)
+class TaskQueryPlanTest {
+
+    private static final String DATABASE = "task_query_plan_test";
+    private static final int USERS = 1_000;
+    private static final int PROJECTS_PER_USER = 5;
+    private static final int TASKS = 1_000_000;
+
+    private static final Pattern TASKS_TABLE = Pattern.compile("\\btasks\\b");
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @DynamicPropertySource
+    static void seededDatabase(DynamicPropertyRegistry registry) throws SQLException {
+        String url = TestPostgres.jdbcUrl(DATABASE);
+        seed(url);
+        registry.add("spring.datasource.url", () -> url);
+        registry.add("spring.datasource.username", TestPostgres::username);
+        registry.add("spring.datasource.password", TestPostgres::password);
+    }
+
+    // Rows go in before V2 and later build their indexes, which is much faster than
+    // maintaining them row by row
+    private static void seed(String url) throws SQLException {
+        flyway(url, "1.3").migrate();
+        try (Connection connection = DriverManager.getConnection(url, TestPostgres.username(), TestPostgres.password());
+             Statement statement = connection.createStatement()) {
+            ResultSet seeded = statement.executeQuery("SELECT EXISTS (SELECT 1 FROM tasks)");
+            seeded.next();
+            if (!seeded.getBoolean(1)) {
+                statement.execute("""
+                        INSERT INTO users (id, username, email, first_name, last_name, password,
+                                           is_active, email_verified, created_at, updated_at)
+                        SELECT gen_random_uuid(), 'plan_user_' || u, 'plan_user_' || u || '@example.com',
+                               'Plan', 'User', 'x', true, true, now(), now()
+                        FROM generate_series(1, %d) u
+                        """.formatted(USERS));
+                statement.execute("""
+                        INSERT INTO projects (id, name, user_id, created_at, updated_at)
+                        SELECT gen_random_uuid(), 'Project ' || p, u.id, now(), now()
+                        FROM users u CROSS JOIN generate_series(1, %d) p
+                        """.formatted(PROJECTS_PER_USER));
+                // Every user gets TASKS / USERS tasks (k is the task's number within its user);
+                // a spread of statuses, priorities and due dates, half in a project, 5% deleted
+                statement.execute("""
+                        INSERT INTO tasks (id, title, description, status, priority, due_date, completed_at,
+                                           user_id, project_id, is_deleted, deleted_at, created_at, updated_at)
+                        SELECT gen_random_uuid(),
+                               'Task ' || k || ' ' || (ARRAY['report', 'deploy', 'review', 'invoice', 'meeting'])[1 + k %% 5],
+                               'Description of task ' || k,
+                               (ARRAY['TODO', 'IN_PROGRESS', 'DONE', 'CANCELLED'])[1 + k %% 4],
+                               (ARRAY['LOW', 'MEDIUM', 'HIGH', 'CRITICAL'])[1 + (k / 4) %% 4],
+                               CASE WHEN k %% 3 <> 0 THEN now() + ((k %% 60) - 30) * interval '1 day' END,
+                               CASE WHEN k %% 4 = 2 THEN now() - (k %% 90) * interval '1 day' END,
+                               u.id,
+                               CASE WHEN k %% 2 = 0 THEN p.id END,
+                               k %% 20 = 0,
+                               CASE WHEN k %% 20 = 0 THEN now() END,
+                               now() - (k %% 365) * interval '1 day' - (k * 37 %% 86400) * interval '1 second',
+                               now() - (k %% 30) * interval '1 day'
+                        FROM users u
+                        CROSS JOIN generate_series(1, %d) k
+                        JOIN (SELECT id, user_id, row_number() OVER (PARTITION BY user_id ORDER BY id) AS n FROM projects) p
+                            ON p.user_id = u.id AND p.n = 1 + (k / 2) %% %d
+                        """.formatted(TASKS / USERS, PROJECTS_PER_USER));
+            }
+        }
+        flyway(url, "latest").migrate();
+        try (Connection connection = DriverManager.getConnection(url, TestPostgres.username(), TestPostgres.password());
+             Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE");
+        }
+    }
+
+    private static Flyway flyway(String url, String target) {
+        return Flyway.configure()
+                .dataSource(url, TestPostgres.username(), TestPostgres.password())
+                .locations("classpath:db/migration")
+                .target(target)
+                .configuration(Map.of("flyway.postgresql.transactional.lock", "false"))
+                .load();
+    }
+
+    @Test
+    void noTaskQueryFallsBackToASequentialScan() throws Exception {
+        UUID userId = jdbcTemplate.queryForObject(
+                "SELECT id FROM users WHERE username = 'plan_user_1'", UUID.class);
+        UUID projectId = jdbcTemplate.queryForObject(
+                "SELECT project_id FROM tasks WHERE user_id = ? AND project_id IS NOT NULL LIMIT 1", UUID.class, userId);
+        UUID taskId = jdbcTemplate.queryForObject(
+                "SELECT id FROM tasks WHERE user_id = ? LIMIT 1", UUID.class, userId);
+        LocalDateTime now = LocalDateTime.now();
+        PageRequest page = PageRequest.of(1, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        RecordingInspector.STATEMENTS.clear();
+
+        taskRepository.findById(taskId);
+        taskRepository.findByUserIdAndIsDeletedFalse(userId, page);
+        taskRepository.findByUserIdAndStatusAndIsDeletedFalse(userId, TaskStatus.TODO, page);
+        taskRepository.findByUserIdAndProjectIdAndIsDeletedFalse(userId, projectId, page);
+        taskRepository.findByUserIdAndSearchAndIsDeletedFalse(userId, "report", page);
+        taskRepository.searchListViewsByUserIdFullText(userId, "report", 0, 20);
+        taskRepository.findLiveTitlesByUserId(userId);
+        taskRepository.findLiveByIdInAndUserId(List.of(taskId, UUID.randomUUID()), userId);
+        taskRepository.countByProjectIdAndIsDeletedFalse(projectId);
+        taskRepository.countByProjectIdAndStatusAndIsDeletedFalse(projectId, TaskStatus.DONE);
+        taskRepository.countOverdueTasksByProjectId(projectId, now);
+        taskRepository.countLiveByProjectIdUpTo(projectId, 1001);
+        taskRepository.countByUserIdAndIsDeletedFalse(userId);
+        taskRepository.countByUserIdAndStatusAndIsDeletedFalse(userId, TaskStatus.DONE);
+        taskRepository.countByUserIdAndStatusNotAndIsDeletedFalse(userId, TaskStatus.DONE);
+        taskRepository.countByUserIdAndDueDateBeforeAndStatusNotAndIsDeletedFalse(userId, now, TaskStatus.DONE);
+        taskRepository.countTasksDueToday(userId, now);
+        taskRepository.countOpenTasksDueBetween(userId, now.toLocalDate().atStartOfDay(), now);
+        taskRepository.countByUserIdAndPriorityAndIsDeletedFalse(userId, TaskPriority.HIGH);
+        taskRepository.getDailyTaskCompletionStats(userId, now.minusDays(30));
+        taskRepository.getRecentTaskActivities(userId, 20);
+        transactionTemplate.executeWithoutResult(status -> {
+            taskRepository.softDeleteByProjectId(UUID.randomUUID());
+            taskRepository.softDeleteBatchByProjectId(UUID.randomUUID(), 1000);
+            taskRepository.detachBatchFromProject(projectId, 1000);
+            taskRepository.detachAllFromProject(projectId);
+            projectRepository.recomputeTaskCounters(projectId);
+            status.setRollbackOnly();
+        });
+
+        // The list endpoint; every filter on its own, a few combinations and sorts,
+        // with an exact count so the COUNT statements are recorded too
+        List<TaskFilterRequest> filters = List.of(
+                filter().build(),
+                filter().status(TaskStatus.IN_PROGRESS).build(),
+                filter().priority(TaskPriority.CRITICAL).build(),
+                filter().projectId(projectId).build(),
+                filter().overdue(true).build(),
+                filter().dueToday(true).build(),
+                filter().startDate(LocalDate.now()).endDate(LocalDate.now().plusDays(7)).build(),
+                filter().search("report").build(),
+                filter().search("report").status(TaskStatus.TODO).build(),
+                filter().status(TaskStatus.TODO).priority(TaskPriority.HIGH).projectId(projectId).build(),
+                filter().sortBy("priority").build(),
+                filter().sortBy("dueDate").sortDirection("asc").build(),
+                filter().sortBy("title").build());
+        for (TaskFilterRequest filter : filters) {
+            taskService.getTasks(userId, filter);
+        }
+        CursorPageResponse<TaskResponse> first = taskService.getTasksByCursor(userId, filter().build());
+        taskService.getTasksByCursor(userId, filter().cursor(first.getNextCursor()).build());
+
+        List<String> statements = RecordingInspector.STATEMENTS.stream()
+                .filter(sql -> TASKS_TABLE.matcher(sql).find())
+                .toList();
+        assertThat(statements).hasSizeGreaterThan(30);
+
+        List<String> sequentialScans = new ArrayList<>();
+        for (String sql : statements) {
+            if (readsTasksSequentially(sql)) {
+                sequentialScans.add(sql);
+            }
+        }
+        assertThat(sequentialScans).as("statements planned with a Seq Scan on tasks").isEmpty();
+    }
+
+    private static TaskFilterRequest.TaskFilterRequestBuilder filter() {
+        return TaskFilterRequest.builder().page(1).size(20).count(CountMode.EXACT);
+    }
+
+    // Plans the statement as the generic plan a prepared statement ends up with, so
+    // the result does not hinge on the values this test happened to pick
+    private boolean readsTasksSequentially(String sql) throws Exception {
+        StringBuilder numbered = new StringBuilder();
+        int parameters = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numbered.append('$').append(++parameters);
+            } else {
+                numbered.append(c);
+            }
+        }
+        String arguments = parameters == 0 ? "" : "(" + String.join(", ", Collections.nCopies(parameters, "NULL")) + ")";
+
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("SET plan_cache_mode = force_generic_plan");
+            statement.execute("PREPARE plan_check AS " + numbered);
+            try {
+                ResultSet plan = statement.executeQuery("EXPLAIN (FORMAT JSON) EXECUTE plan_check" + arguments);
+                plan.next();
+                return hasSequentialScanOnTasks(new ObjectMapper().readTree(plan.getString(1)));
+            } finally {
+                statement.execute("DEALLOCATE plan_check");
+                statement.execute("RESET plan_cache_mode");
+            }
+        }
+    }
+
+    private static boolean hasSequentialScanOnTasks(JsonNode node) {
+        if ("Seq Scan".equals(node.path("Node Type").asText()) && "tasks".equals(node.path("Relation Name").asText())) {
+            return true;
+        }
+        for (JsonNode child : node) {
+            if (child.isContainerNode() && hasSequentialScanOnTasks(child)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Records every SQL statement Hibernate prepares, native queries included. */
+    static class RecordingInspector implements StatementInspector {
+
+        static final Set<String> STATEMENTS = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        HibernatePropertiesCustomizer recordingStatementInspector() {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new RecordingInspector());
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.taskmanagement.api.security;
+
+import com.taskmanagement.api.entity.User;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserAuthStateTest {
+
+    private final JwtTokenProvider tokenProvider = new JwtTokenProvider("unused", 86_400_000L, 2_592_000_000L);
+
+    @Test
+    void logoutRejectsEarlierTokensAndAcceptsOnesIssuedRightAfter() {
+        User user = User.builder()
+                .id(UUID.randomUUID())
+                .username("someone")
+                .email("someone@example.com")
+                .firstName("Some")
+                .lastName("One")
+                .build();
+        JwtClaims beforeLogout = claims(user);
+
+        user.revokeTokens();
+        // Same wall-clock second as the logout, so the same iat as the revoked token
+        JwtClaims afterRelogin = claims(user);
+
+        UserAuthState state = UserAuthState.of(user);
+        assertThat(state.permits(beforeLogout)).isFalse();
+        assertThat(state.permits(afterRelogin)).isTrue();
+    }
+
+    @Test
+    void tokensWithoutAVersionCountAsVersionZero() {
+        UserAuthState neverRevoked = new UserAuthState(UUID.randomUUID(), true, true, 0);
+        UserAuthState revoked = new UserAuthState(UUID.randomUUID(), true, true, 1);
+
+        assertThat(neverRevoked.isRevoked(null)).isFalse();
+        assertThat(revoked.isRevoked(null)).isTrue();
+    }
+
+    private JwtClaims claims(User user) {
+        return tokenProvider.parseAndVerify(tokenProvider.generateAccessToken(user));
+    }
+}
@@ -0,0 +1,163 @@
+package com.taskmanagement.api.service;
+
+import com.taskmanagement.api.dto.request.BulkTaskOperation;
+import com.taskmanagement.api.dto.request.BulkTaskRequest;
+import com.taskmanagement.api.dto.response.BulkTaskResponse;
+import com.taskmanagement.api.dto.response.BulkTaskResult;
+import com.taskmanagement.api.entity.Project;
+import com.taskmanagement.api.entity.Task;
+import com.taskmanagement.api.entity.User;
+import com.taskmanagement.api.enums.BulkTaskAction;
+import com.taskmanagement.api.enums.BulkTaskResultStatus;
+import com.taskmanagement.api.enums.TaskPriority;
+import com.taskmanagement.api.enums.TaskStatus;
+import com.taskmanagement.api.repository.ProjectRepository;
+import com.taskmanagement.api.repository.TaskRepository;
+import com.taskmanagement.api.support.PostgresIntegrationTest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BulkTaskServiceTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private BulkTaskService bulkTaskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User owner;
+    private User other;
+
+    @BeforeEach
+    void setUp() {
+        owner = createUser();
+        other = createUser();
+    }
+
+    @Test
+    void tasksOfAnotherUserAreNotFoundAndLeftUnchanged() {
+        Task own = createTask(owner);
+        Task foreign = createTask(other);
+
+        BulkTaskResponse response = bulkTaskService.apply(owner.getId(), request(
+                setStatus(own.getId(), TaskStatus.DONE),
+                setStatus(foreign.getId(), TaskStatus.DONE),
+                delete(foreign.getId())));
+
+        assertThat(response.getSucceeded()).isEqualTo(1);
+        assertThat(response.getFailed()).isEqualTo(2);
+        assertThat(response.getResults()).extracting(BulkTaskResult::getStatus).containsExactly(
+                BulkTaskResultStatus.SUCCESS, BulkTaskResultStatus.NOT_FOUND, BulkTaskResultStatus.NOT_FOUND);
+        assertThat(taskRepository.findById(own.getId()).orElseThrow().getStatus()).isEqualTo(TaskStatus.DONE);
+        Task untouched = taskRepository.findById(foreign.getId()).orElseThrow();
+        assertThat(untouched.getStatus()).isEqualTo(TaskStatus.TODO);
+        assertThat(untouched.getIsDeleted()).isFalse();
+    }
+
+    @Test
+    void deletedAndUnknownTasksAreNotFound() {
+        Task deleted = createTask(owner);
+        bulkTaskService.apply(owner.getId(), request(delete(deleted.getId())));
+
+        BulkTaskResponse response = bulkTaskService.apply(owner.getId(), request(
+                setPriority(deleted.getId(), TaskPriority.HIGH),
+                setPriority(UUID.randomUUID(), TaskPriority.HIGH)));
+
+        assertThat(response.getSucceeded()).isZero();
+        assertThat(response.getResults()).extracting(BulkTaskResult::getStatus)
+                .containsOnly(BulkTaskResultStatus.NOT_FOUND);
+    }
+
+    @Test
+    void tasksCannotBeMovedIntoAnotherUsersProject() {
+        Task task = createTask(owner);
+        Project ownProject = createProject(owner);
+        Project foreignProject = createProject(other);
+
+        BulkTaskResponse rejected = bulkTaskService.apply(owner.getId(), request(
+                moveTo(task.getId(), foreignProject.getId())));
+        assertThat(rejected.getResults()).extracting(BulkTaskResult::getStatus)
+                .containsExactly(BulkTaskResultStatus.NOT_FOUND);
+        assertThat(taskRepository.findById(task.getId()).orElseThrow().getProject()).isNull();
+
+        BulkTaskResponse moved = bulkTaskService.apply(owner.getId(), request(
+                moveTo(task.getId(), ownProject.getId())));
+        assertThat(moved.getResults()).extracting(BulkTaskResult::getStatus)
+                .containsExactly(BulkTaskResultStatus.SUCCESS);
+        assertThat(taskRepository.findById(task.getId()).orElseThrow().getProject().getId())
+                .isEqualTo(ownProject.getId());
+    }
+
+    @Test
+    void ownershipIsCheckedWithAFixedNumberOfStatements() {
+        Project project = createProject(owner);
+
+        long few = statementsFor(2, project);
+        long many = statementsFor(40, project);
+
+        // Lookups are one IN (...) query each and the UPDATEs go out as one JDBC batch
+        assertThat(many).isEqualTo(few);
+    }
+
+    private long statementsFor(int count, Project project) {
+        List<BulkTaskOperation> operations = IntStream.range(0, count)
+                .mapToObj(i -> moveTo(createTask(owner).getId(), project.getId()))
+                .toList();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        BulkTaskResponse response = bulkTaskService.apply(owner.getId(),
+                BulkTaskRequest.builder().operations(operations).build());
+        assertThat(response.getSucceeded()).isEqualTo(count);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Task createTask(User user) {
+        return taskRepository.save(Task.builder()
+                .title("Task")
+                .user(user)
+                .build());
+    }
+
+    private Project createProject(User user) {
+        return projectRepository.save(Project.builder()
+                .name("Project " + UUID.randomUUID())
+                .user(user)
+                .build());
+    }
+
+    private static BulkTaskRequest request(BulkTaskOperation... operations) {
+        return BulkTaskRequest.builder().operations(List.of(operations)).build();
+    }
+
+    private static BulkTaskOperation setStatus(UUID taskId, TaskStatus status) {
+        return BulkTaskOperation.builder().taskId(taskId).action(BulkTaskAction.SET_STATUS).status(status).build();
+    }
+
+    private static BulkTaskOperation setPriority(UUID taskId, TaskPriority priority) {
+        return BulkTaskOperation.builder().taskId(taskId).action(BulkTaskAction.SET_PRIORITY).priority(priority).build();
+    }
+
+    private static BulkTaskOperation moveTo(UUID taskId, UUID projectId) {
+        return BulkTaskOperation.builder().taskId(taskId).action(BulkTaskAction.MOVE_TO_PROJECT).projectId(projectId).build();
+    }
+
+    private static BulkTaskOperation delete(UUID taskId) {
+        return BulkTaskOperation.builder().taskId(taskId).action(BulkTaskAction.DELETE).build();
+    }
+}
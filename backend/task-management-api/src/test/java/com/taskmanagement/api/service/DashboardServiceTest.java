@@ -0,0 +1,94 @@
+package com.taskmanagement.api.service;
+
+import com.taskmanagement.api.dto.request.TaskCreateRequest;
+import com.taskmanagement.api.dto.request.TaskUpdateRequest;
+import com.taskmanagement.api.dto.response.TaskStatsResponse;
+import com.taskmanagement.api.entity.Task;
+import com.taskmanagement.api.entity.User;
+import com.taskmanagement.api.enums.TaskPriority;
+import com.taskmanagement.api.enums.TaskStatus;
+import com.taskmanagement.api.repository.TaskRepository;
+import com.taskmanagement.api.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The status and priority histograms agree with one COUNT per enum value, both when
+ * they are kept up to date by task writes and when they are built from existing rows.
+ */
+class DashboardServiceTest extends PostgresIntegrationTest {
+
+    private static final int TASKS = 23;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void histogramMaintainedByTaskWritesMatchesPerEnumCounts() {
+        UUID userId = createUser().getId();
+        // Initialized while empty, so every task below arrives as an incremental change
+        dashboardService.getTaskStatistics(userId, 7);
+
+        TaskStatus[] statuses = TaskStatus.values();
+        TaskPriority[] priorities = TaskPriority.values();
+        for (int i = 0; i < TASKS; i++) {
+            UUID taskId = taskService.createTask(userId, TaskCreateRequest.builder()
+                    .title("Task " + i)
+                    .priority(priorities[i % priorities.length])
+                    .build()).getId();
+            taskService.updateTask(userId, taskId, TaskUpdateRequest.builder()
+                    .status(statuses[(i / 2) % statuses.length])
+                    .priority(priorities[(i + i / 3) % priorities.length])
+                    .build());
+            if (i % 5 == 0) {
+                taskService.deleteTask(userId, taskId);
+            }
+        }
+
+        assertMatchesPerEnumCounts(userId);
+    }
+
+    @Test
+    void histogramBuiltFromExistingTasksMatchesPerEnumCounts() {
+        User user = createUser();
+        TaskStatus[] statuses = TaskStatus.values();
+        TaskPriority[] priorities = TaskPriority.values();
+        // Written around TaskService, so the first read has to build the histogram
+        for (int i = 0; i < TASKS; i++) {
+            taskRepository.save(Task.builder()
+                    .title("Task " + i)
+                    .status(statuses[i % statuses.length])
+                    .priority(priorities[(i / 2) % priorities.length])
+                    .isDeleted(i % 7 == 0)
+                    .user(user)
+                    .build());
+        }
+
+        assertMatchesPerEnumCounts(user.getId());
+    }
+
+    private void assertMatchesPerEnumCounts(UUID userId) {
+        TaskStatsResponse stats = dashboardService.getTaskStatistics(userId, 7);
+
+        assertThat(stats.getStatusCounts()).containsOnlyKeys(TaskStatus.values());
+        for (TaskStatus status : TaskStatus.values()) {
+            assertThat(stats.getStatusCounts().get(status)).as("status %s", status)
+                    .isEqualTo(taskRepository.countByUserIdAndStatusAndIsDeletedFalse(userId, status));
+        }
+        assertThat(stats.getPriorityCounts()).containsOnlyKeys(TaskPriority.values());
+        for (TaskPriority priority : TaskPriority.values()) {
+            assertThat(stats.getPriorityCounts().get(priority)).as("priority %s", priority)
+                    .isEqualTo(taskRepository.countByUserIdAndPriorityAndIsDeletedFalse(userId, priority));
+        }
+    }
+}
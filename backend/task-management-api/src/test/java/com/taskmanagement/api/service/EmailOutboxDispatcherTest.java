@@ -0,0 +1,179 @@
+package com.taskmanagement.api.service;
+
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.taskmanagement.api.entity.OutboxEmail;
+import com.taskmanagement.api.enums.OutboxEmailStatus;
+import com.taskmanagement.api.repository.OutboxEmailRepository;
+import com.taskmanagement.api.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Outbox delivery against GreenMail on the test profile's SMTP port: batching,
+ * retries with backoff while the server is down, and dead-lettering.
+ */
+@TestPropertySource(properties = {
+        "app.mail.outbox.enabled=true",
+        "app.mail.outbox.poll-interval=PT1H",
+        "app.mail.outbox.batch-size=2",
+        "app.mail.outbox.max-batches-per-poll=2",
+        "app.mail.outbox.max-attempts=2",
+        "app.mail.outbox.backoff=PT30S"
+})
+class EmailOutboxDispatcherTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private EmailOutboxDispatcher dispatcher;
+
+    @Autowired
+    private OutboxEmailRepository outboxRepository;
+
+    private GreenMail greenMail;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository.deleteAllInBatch();
+        startSmtp();
+    }
+
+    @AfterEach
+    void tearDown() {
+        greenMail.stop();
+    }
+
+    @Test
+    void sendsDueEmailsInBatches() {
+        List<UUID> ids = queue(3);
+
+        dispatcher.dispatch();
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(3);
+        ids.forEach(id -> {
+            OutboxEmail email = outboxRepository.findById(id).orElseThrow();
+            assertThat(email.getStatus()).isEqualTo(OutboxEmailStatus.SENT);
+            assertThat(email.getSentAt()).isNotNull();
+        });
+    }
+
+    @Test
+    void leavesTheRestForTheNextPollAfterMaxBatches() {
+        queue(5);
+
+        dispatcher.dispatch();
+
+        // Two full batches of two
+        assertThat(greenMail.getReceivedMessages()).hasSize(4);
+        assertThat(outboxRepository.countByStatus(OutboxEmailStatus.PENDING)).isEqualTo(1);
+
+        dispatcher.dispatch();
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(5);
+        assertThat(outboxRepository.countByStatus(OutboxEmailStatus.PENDING)).isZero();
+    }
+
+    @Test
+    void retriesWithBackoffWhileTheServerIsDown() {
+        greenMail.stop();
+        UUID id = queue(1).get(0);
+        LocalDateTime before = LocalDateTime.now();
+
+        dispatcher.dispatch();
+
+        OutboxEmail failed = outboxRepository.findById(id).orElseThrow();
+        assertThat(failed.getStatus()).isEqualTo(OutboxEmailStatus.PENDING);
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getLastError()).isNotBlank();
+        assertThat(failed.getNextAttemptAt()).isAfterOrEqualTo(before.plusSeconds(30));
+
+        // Not due yet: a poll leaves it alone
+        dispatcher.dispatch();
+        assertThat(outboxRepository.findById(id).orElseThrow().getAttempts()).isEqualTo(1);
+
+        startSmtp();
+        makeDue(id);
+        dispatcher.dispatch();
+
+        OutboxEmail sent = outboxRepository.findById(id).orElseThrow();
+        assertThat(sent.getStatus()).isEqualTo(OutboxEmailStatus.SENT);
+        assertThat(sent.getAttempts()).isEqualTo(2);
+        assertThat(sent.getLastError()).isNull();
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+    }
+
+    @Test
+    void deadLettersAfterMaxAttempts() {
+        greenMail.stop();
+        UUID id = queue(1).get(0);
+
+        dispatcher.dispatch();
+        makeDue(id);
+        dispatcher.dispatch();
+
+        OutboxEmail dead = outboxRepository.findById(id).orElseThrow();
+        assertThat(dead.getStatus()).isEqualTo(OutboxEmailStatus.DEAD);
+        assertThat(dead.getAttempts()).isEqualTo(2);
+        assertThat(dead.getLastError()).isNotBlank();
+
+        // Dead emails are never claimed again
+        makeDue(id);
+        dispatcher.dispatch();
+        assertThat(outboxRepository.findById(id).orElseThrow().getAttempts()).isEqualTo(2);
+    }
+
+    @Test
+    void deadLettersAnUnrenderableEmailAtOnce() {
+        UUID broken = outboxRepository.save(OutboxEmail.builder()
+                .recipient("broken@example.com")
+                .subject("Broken")
+                .template("email/no-such-template")
+                .variables(Map.of())
+                .nextAttemptAt(LocalDateTime.now())
+                .build()).getId();
+        UUID plain = queue(1).get(0);
+
+        dispatcher.dispatch();
+
+        OutboxEmail dead = outboxRepository.findById(broken).orElseThrow();
+        assertThat(dead.getStatus()).isEqualTo(OutboxEmailStatus.DEAD);
+        assertThat(dead.getAttempts()).isEqualTo(1);
+        // The rest of the batch still goes out
+        assertThat(outboxRepository.findById(plain).orElseThrow().getStatus()).isEqualTo(OutboxEmailStatus.SENT);
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+    }
+
+    private void startSmtp() {
+        greenMail = new GreenMail(ServerSetupTest.SMTP)
+                .withConfiguration(GreenMailConfiguration.aConfig().withDisabledAuthentication());
+        greenMail.start();
+    }
+
+    private List<UUID> queue(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> outboxRepository.save(OutboxEmail.builder()
+                        .recipient("recipient" + i + "@example.com")
+                        .subject("Message " + i)
+                        .body("Body " + i)
+                        .nextAttemptAt(LocalDateTime.now().minusSeconds(count - i))
+                        .build()).getId())
+                .toList();
+    }
+
+    private void makeDue(UUID id) {
+        OutboxEmail email = outboxRepository.findById(id).orElseThrow();
+        email.setNextAttemptAt(LocalDateTime.now().minusSeconds(1));
+        outboxRepository.save(email);
+    }
+}
@@ -0,0 +1,259 @@
+package com.taskmanagement.api.service;
+
+import com.taskmanagement.api.dto.request.BulkTaskOperation;
+import com.taskmanagement.api.dto.request.BulkTaskRequest;
+import com.taskmanagement.api.dto.request.ProjectCreateRequest;
+import com.taskmanagement.api.dto.request.TaskCreateRequest;
+import com.taskmanagement.api.dto.request.TaskFilterRequest;
+import com.taskmanagement.api.dto.request.TaskUpdateRequest;
+import com.taskmanagement.api.entity.Project;
+import com.taskmanagement.api.entity.Task;
+import com.taskmanagement.api.entity.User;
+import com.taskmanagement.api.enums.BulkTaskAction;
+import com.taskmanagement.api.enums.TaskPriority;
+import com.taskmanagement.api.enums.TaskStatus;
+import com.taskmanagement.api.repository.TaskRepository;
+import com.taskmanagement.api.support.PostgresIntegrationTest;
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Statement counts of the main endpoints with the prod profile's persistence
+ * settings (second-level cache, fetch and JDBC batching). "Before" runs the same
+ * requests with the second-level cache bypassed and without batching, as without
+ * the profile.
+ */
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.default_batch_fetch_size=50",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.jdbc.batch_versioned_data=true",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "spring.jpa.properties.hibernate.order_updates=true",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+        "spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+        "spring.jpa.properties.hibernate.javax.cache.provider=com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider",
+        "spring.jpa.properties.hibernate.javax.cache.uri=hibernate-jcache.conf",
+        "spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=create"
+})
+class ProdPersistenceStatementCountTest extends PostgresIntegrationTest {
+
+    private static final int REQUESTS = 10;
+    private static final int PROJECTS = 5;
+    private static final int TASKS = 60;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private BulkTaskService bulkTaskService;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private SessionFactory sessionFactory;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        statistics = sessionFactory.getStatistics();
+    }
+
+    @Test
+    void createTaskReadsTheUserFromTheCache() {
+        UUID userId = createUser().getId();
+
+        long before = statements(false, i -> taskService.createTask(userId, TaskCreateRequest.builder()
+                .title("Task " + i)
+                .build()));
+        long after = statements(true, i -> taskService.createTask(userId, TaskCreateRequest.builder()
+                .title("Task " + i)
+                .build()));
+
+        // One SELECT of the user per request is gone
+        assertThat(before - after).isEqualTo(REQUESTS);
+        assertThat(sessionFactory.getCache().containsEntity(User.class, userId)).isTrue();
+    }
+
+    @Test
+    void projectsAreNotCachedSoTheirCountersAreCurrent() {
+        UUID userId = createUser().getId();
+        UUID projectId = projectService.createProject(userId, ProjectCreateRequest.builder()
+                .name("Cached?")
+                .build()).getId();
+        projectService.getProject(userId, projectId);
+
+        taskService.createTask(userId, TaskCreateRequest.builder()
+                .title("Counted")
+                .projectId(projectId)
+                .build());
+
+        assertThat(sessionFactory.getCache().containsEntity(Project.class, projectId)).isFalse();
+        assertThat(projectService.getProject(userId, projectId).getTaskCount()).isEqualTo(1);
+    }
+
+    @Test
+    void taskListPageIsTheSameThreeStatementsEitherWay() {
+        UUID userId = createUser().getId();
+        createTasksInProjects(userId);
+        TaskFilterRequest filter = TaskFilterRequest.builder().build();
+
+        long before = statements(false, i -> taskService.getTasks(userId, filter));
+        long after = statements(true, i -> taskService.getTasks(userId, filter));
+
+        // Projections, not entities: the page, its attachments in one IN query and the total
+        assertThat(before).isEqualTo(3L * REQUESTS);
+        assertThat(after).isEqualTo(before);
+    }
+
+    @Test
+    void updateTaskIsTheSameNineStatementsEitherWay() {
+        UUID userId = createUser().getId();
+        List<UUID> taskIds = createTasksInProjects(userId);
+
+        long before = statements(false, i -> taskService.updateTask(userId, taskIds.get(i), statusAndPriority()));
+        long after = statements(true, i -> taskService.updateTask(userId, taskIds.get(REQUESTS + i), statusAndPriority()));
+
+        // The task, its project and attachments for the response, the UPDATE, and the stats
+        // lock with four bucket upserts. Nothing here is batched or read from the cache.
+        assertThat(before).isEqualTo(9L * REQUESTS);
+        assertThat(after).isEqualTo(before);
+    }
+
+    @Test
+    void bulkUpdateStatementsDoNotGrowWithTheOperations() {
+        UUID userId = createUser().getId();
+        List<UUID> taskIds = createTasksInProjects(userId);
+
+        long oneByOne = statements(false, i -> taskService.updateTask(userId, taskIds.get(i), TaskUpdateRequest.builder()
+                .status(TaskStatus.DONE)
+                .build()));
+        // BulkTaskService sets its own JDBC batch size, so "before" is the per-task endpoint
+        long bulkOfTen = statements(true, 1, i -> bulkTaskService.apply(userId,
+                setStatus(taskIds.subList(REQUESTS, 2 * REQUESTS), TaskStatus.DONE)));
+        long bulkOfForty = statements(true, 1, i -> bulkTaskService.apply(userId,
+                setStatus(taskIds.subList(2 * REQUESTS, 6 * REQUESTS), TaskStatus.DONE)));
+
+        assertThat(oneByOne).isEqualTo(9L * REQUESTS);
+        // One SELECT ... IN, one batched UPDATE and the stats writes, whatever the batch holds
+        assertThat(bulkOfTen).isEqualTo(11);
+        assertThat(bulkOfForty).isEqualTo(bulkOfTen);
+        assertThat(taskRepository.findAllById(taskIds.subList(0, 6 * REQUESTS)))
+                .extracting(Task::getStatus)
+                .containsOnly(TaskStatus.DONE);
+    }
+
+    @Test
+    void dashboardAndProjectSummariesAreTheSameNineStatementsEitherWay() {
+        UUID userId = createUser().getId();
+        createTasksInProjects(userId);
+        // The first read initializes the user's stats; measure the reads after it
+        loadDashboard(userId);
+
+        long before = statements(false, i -> loadDashboard(userId));
+        long after = statements(true, i -> loadDashboard(userId));
+
+        // Aggregates over the stats table and projects, none of it cacheable entity loads
+        assertThat(before).isEqualTo(9L * REQUESTS);
+        assertThat(after).isEqualTo(before);
+    }
+
+    // The reads behind the dashboard page
+    private void loadDashboard(UUID userId) {
+        dashboardService.getDashboardSummary(userId);
+        dashboardService.getTaskStatistics(userId, 7);
+        projectService.getProjectSummaries(userId);
+    }
+
+    private static TaskUpdateRequest statusAndPriority() {
+        return TaskUpdateRequest.builder()
+                .status(TaskStatus.IN_PROGRESS)
+                .priority(TaskPriority.HIGH)
+                .build();
+    }
+
+    private List<UUID> createTasksInProjects(UUID userId) {
+        List<UUID> projectIds = IntStream.range(0, PROJECTS)
+                .mapToObj(p -> projectService.createProject(userId, ProjectCreateRequest.builder()
+                        .name("Project " + p)
+                        .build()).getId())
+                .toList();
+        return IntStream.range(0, TASKS)
+                .mapToObj(t -> taskService.createTask(userId, TaskCreateRequest.builder()
+                        .title("Task " + t)
+                        .projectId(projectIds.get(t % PROJECTS))
+                        .build()).getId())
+                .toList();
+    }
+
+    private static BulkTaskRequest setStatus(List<UUID> taskIds, TaskStatus status) {
+        return BulkTaskRequest.builder()
+                .operations(taskIds.stream()
+                        .map(taskId -> BulkTaskOperation.builder()
+                                .taskId(taskId)
+                                .action(BulkTaskAction.SET_STATUS)
+                                .status(status)
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    private long statements(boolean prod, IntConsumer request) {
+        return statements(prod, REQUESTS, request);
+    }
+
+    // Statements for the requests, each in a transaction of its own like an HTTP request. Without
+    // prod the session bypasses the second-level cache and loads and writes row by row.
+    private long statements(boolean prod, int requests, IntConsumer request) {
+        statistics.clear();
+        for (int i = 0; i < requests; i++) {
+            int n = i;
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!prod) {
+                    entityManager.setProperty(AvailableSettings.JAKARTA_SHARED_CACHE_RETRIEVE_MODE,
+                            CacheRetrieveMode.BYPASS);
+                    Session session = entityManager.unwrap(Session.class);
+                    session.setFetchBatchSize(1);
+                    session.setJdbcBatchSize(1);
+                }
+                request.accept(n);
+            });
+        }
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,107 @@
+package com.taskmanagement.api.service;
+
+import com.taskmanagement.api.dto.request.ProjectCreateRequest;
+import com.taskmanagement.api.dto.request.TaskCreateRequest;
+import com.taskmanagement.api.dto.request.TaskUpdateRequest;
+import com.taskmanagement.api.dto.response.ProjectSummaryResponse;
+import com.taskmanagement.api.enums.TaskStatus;
+import com.taskmanagement.api.repository.TaskRepository;
+import com.taskmanagement.api.support.PostgresIntegrationTest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProjectServiceTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void summariesMatchPerProjectCounts() {
+        UUID userId = createUser().getId();
+        createProjects(userId, 4);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<ProjectSummaryResponse> summaries = projectService.getProjectSummaries(userId);
+
+        assertThat(summaries).hasSize(4);
+        for (ProjectSummaryResponse summary : summaries) {
+            UUID projectId = summary.getId();
+            assertThat(summary.getTotalTasks()).as("total of %s", summary.getName())
+                    .isEqualTo(taskRepository.countByProjectIdAndIsDeletedFalse(projectId).intValue());
+            assertThat(summary.getCompletedTasks()).as("completed of %s", summary.getName())
+                    .isEqualTo(taskRepository.countByProjectIdAndStatusAndIsDeletedFalse(projectId, TaskStatus.DONE).intValue());
+            assertThat(summary.getOverdueTasks()).as("overdue of %s", summary.getName())
+                    .isEqualTo(taskRepository.countOverdueTasksByProjectId(projectId, now).intValue());
+        }
+        // The fixture gives every project some of each
+        assertThat(summaries).allSatisfy(summary -> {
+            assertThat(summary.getCompletedTasks()).isPositive();
+            assertThat(summary.getOverdueTasks()).isPositive();
+        });
+    }
+
+    @Test
+    void summariesTakeTheSameNumberOfStatementsForAnyNumberOfProjects() {
+        UUID fewProjects = createUser().getId();
+        createProjects(fewProjects, 1);
+        UUID manyProjects = createUser().getId();
+        createProjects(manyProjects, 8);
+
+        long few = statementsFor(() -> assertThat(projectService.getProjectSummaries(fewProjects)).hasSize(1));
+        long many = statementsFor(() -> assertThat(projectService.getProjectSummaries(manyProjects)).hasSize(8));
+
+        assertThat(many).isEqualTo(few).isEqualTo(1);
+    }
+
+    // Per project: tasks in every status, one soft deleted, one overdue and one overdue but done
+    private void createProjects(UUID userId, int count) {
+        for (int p = 0; p < count; p++) {
+            UUID projectId = projectService.createProject(userId, ProjectCreateRequest.builder()
+                    .name("Project " + p)
+                    .build()).getId();
+            int i = 0;
+            for (TaskStatus status : TaskStatus.values()) {
+                UUID taskId = task(userId, projectId, "Task " + i++, null);
+                taskService.updateTask(userId, taskId, TaskUpdateRequest.builder().status(status).build());
+            }
+            taskService.deleteTask(userId, task(userId, projectId, "Deleted", null));
+            task(userId, projectId, "Overdue", LocalDate.now().minusDays(2));
+            UUID doneLate = task(userId, projectId, "Done late", LocalDate.now().minusDays(3));
+            taskService.updateTask(userId, doneLate, TaskUpdateRequest.builder().status(TaskStatus.DONE).build());
+        }
+    }
+
+    private UUID task(UUID userId, UUID projectId, String title, LocalDate dueDate) {
+        return taskService.createTask(userId, TaskCreateRequest.builder()
+                .title(title)
+                .projectId(projectId)
+                .dueDate(dueDate)
+                .build()).getId();
+    }
+
+    private long statementsFor(Runnable action) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
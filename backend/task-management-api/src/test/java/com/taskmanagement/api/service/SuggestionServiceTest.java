@@ -0,0 +1,71 @@
+package com.taskmanagement.api.service;
+
+import com.taskmanagement.api.dto.response.SuggestionResponse;
+import com.taskmanagement.api.event.ProjectChangedEvent;
+import com.taskmanagement.api.repository.ProjectRepository;
+import com.taskmanagement.api.repository.TaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SuggestionServiceTest {
+
+    private static final Duration LIFETIME = Duration.ofMinutes(30);
+
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final ProjectRepository projectRepository = mock(ProjectRepository.class);
+    private final AtomicLong nanos = new AtomicLong();
+    private final UUID userId = UUID.randomUUID();
+
+    private SuggestionService suggestionService;
+
+    @BeforeEach
+    void setUp() {
+        when(taskRepository.findLiveTitlesByUserId(userId))
+                .thenReturn(List.<Object[]>of(new Object[]{UUID.randomUUID(), "Quarterly report"}));
+        when(projectRepository.findNamesByUserId(userId)).thenReturn(List.of());
+        suggestionService = new SuggestionService(taskRepository, projectRepository, new SimpleMeterRegistry(),
+                true, 1 << 20, LIFETIME, nanos::get);
+    }
+
+    @Test
+    void updatesDoNotExtendTheIndexLifetime() {
+        suggestionService.suggest(userId, "quar", 10);
+
+        advance(Duration.ofMinutes(20));
+        suggestionService.onProjectChanged(new ProjectChangedEvent(userId, UUID.randomUUID(), "Quarantine"));
+        assertThat(suggestionService.suggest(userId, "quar", 10)).extracting(SuggestionResponse::getText)
+                .containsExactlyInAnyOrder("Quarterly report", "Quarantine");
+        verify(taskRepository, times(1)).findLiveTitlesByUserId(userId);
+
+        // 35 minutes after the build: rebuilt although it was updated 15 minutes ago
+        advance(Duration.ofMinutes(15));
+        suggestionService.suggest(userId, "quar", 10);
+        verify(taskRepository, times(2)).findLiveTitlesByUserId(userId);
+    }
+
+    @Test
+    void updatesAreNotAppliedToAnIndexNotInMemory() {
+        suggestionService.onProjectChanged(new ProjectChangedEvent(userId, UUID.randomUUID(), "Quarantine"));
+
+        // Nothing was cached by the update; the first query builds from the database
+        assertThat(suggestionService.suggest(userId, "quar", 10)).extracting(SuggestionResponse::getText)
+                .containsExactly("Quarterly report");
+        verify(taskRepository, times(1)).findLiveTitlesByUserId(userId);
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+}
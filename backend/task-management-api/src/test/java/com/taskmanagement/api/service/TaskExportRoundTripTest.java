@@ -0,0 +1,81 @@
+package com.taskmanagement.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.api.dto.request.TaskFilterRequest;
+import com.taskmanagement.api.entity.Task;
+import com.taskmanagement.api.entity.User;
+import com.taskmanagement.api.enums.TaskFileFormat;
+import com.taskmanagement.api.repository.TaskRepository;
+import com.taskmanagement.api.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A CSV export read back by the import yields the values that were exported, the
+ * formula guard included.
+ */
+class TaskExportRoundTripTest extends PostgresIntegrationTest {
+
+    private static final List<String> VALUES = List.of(
+            "=SUM(A1:A9)", "+1", "-5 apples", "@mention",
+            "'=already quoted", "''+two quotes", "'plain quote", "'", "''",
+            "plain", "with, comma", "with \"quotes\"", "two\nlines");
+
+    @Autowired
+    private TaskExportService taskExportService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void csvRoundTripIsExact() throws Exception {
+        User user = createUser();
+        for (String value : VALUES) {
+            taskRepository.save(Task.builder()
+                    .title(value)
+                    .description(value)
+                    .user(user)
+                    .build());
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        taskExportService.export(user.getId(), new TaskFilterRequest(), TaskFileFormat.CSV, out);
+
+        TaskImportReader reader = new TaskImportReader(
+                new BufferedReader(new StringReader(out.toString(StandardCharsets.UTF_8))), TaskFileFormat.CSV, objectMapper);
+        Map<String, String> descriptions = new HashMap<>();
+        for (Map<String, String> record = reader.next(); record != null; record = reader.next()) {
+            descriptions.put(record.get("title"), record.get("description"));
+        }
+
+        assertThat(descriptions).hasSize(VALUES.size());
+        VALUES.forEach(value -> assertThat(descriptions).containsEntry(value, value));
+    }
+
+    @Test
+    void formulaValuesAreGuardedInTheFile() throws Exception {
+        User user = createUser();
+        taskRepository.save(Task.builder().title("=HYPERLINK(\"x\")").user(user).build());
+        taskRepository.save(Task.builder().title("'@quoted").user(user).build());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        taskExportService.export(user.getId(), new TaskFilterRequest(), TaskFileFormat.CSV, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8))
+                .contains(",\"'=HYPERLINK(\"\"x\"\")\",")
+                .contains(",''@quoted,");
+    }
+}
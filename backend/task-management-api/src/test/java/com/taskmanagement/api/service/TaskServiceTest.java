@@ -0,0 +1,76 @@
+package com.taskmanagement.api.service;
+
+import com.taskmanagement.api.dto.request.TaskFilterRequest;
+import com.taskmanagement.api.dto.response.TaskResponse;
+import com.taskmanagement.api.entity.Task;
+import com.taskmanagement.api.entity.User;
+import com.taskmanagement.api.enums.CountMode;
+import com.taskmanagement.api.repository.TaskRepository;
+import com.taskmanagement.api.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskServiceTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        User user = createUser();
+        userId = user.getId();
+        IntStream.range(0, 5).forEach(i -> taskRepository.save(Task.builder()
+                .title("Task " + i)
+                .user(user)
+                .build()));
+    }
+
+    @Test
+    void totalOfAPartialLastPageIsOffsetPlusRows() {
+        Page<TaskResponse> page = page(2, 2, CountMode.EXACT);
+
+        assertThat(page.getContent()).hasSize(1);
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    void totalOfAPagePastTheEndIsCounted() {
+        Page<TaskResponse> page = page(10, 2, CountMode.EXACT);
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.getTotalElements()).isEqualTo(5);
+    }
+
+    @Test
+    void totalOfAnEmptyListIsZero() {
+        Page<TaskResponse> page = (Page<TaskResponse>) taskService.getTasks(createUser().getId(),
+                TaskFilterRequest.builder().count(CountMode.EXACT).build());
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.getTotalElements()).isZero();
+    }
+
+    private Page<TaskResponse> page(int page, int size, CountMode count) {
+        Slice<TaskResponse> slice = taskService.getTasks(userId, TaskFilterRequest.builder()
+                .page(page)
+                .size(size)
+                .count(count)
+                .build());
+        assertThat(slice).isInstanceOf(Page.class);
+        return (Page<TaskResponse>) slice;
+    }
+}
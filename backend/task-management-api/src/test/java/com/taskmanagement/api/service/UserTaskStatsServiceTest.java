@@ -0,0 +1,106 @@
+package com.taskmanagement.api.service;
+
+import com.taskmanagement.api.dto.request.TaskCreateRequest;
+import com.taskmanagement.api.enums.TaskStatus;
+import com.taskmanagement.api.repository.TaskRepository;
+import com.taskmanagement.api.repository.UserTaskStatRepository;
+import com.taskmanagement.api.support.PostgresIntegrationTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserTaskStatsServiceTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private UserTaskStatsService statsService;
+
+    @Autowired
+    private UserTaskStatRepository statRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void rebuildWaitsForAnOpenTaskWriteAndCountsIt() throws Exception {
+        UUID userId = createUser().getId();
+        // Initialized while empty: the write below only creates bucket rows the rebuild cannot see
+        statsService.getHistogram(userId);
+
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            taskService.createTask(userId, TaskCreateRequest.builder()
+                    .title("In flight")
+                    .dueDate(LocalDate.now().plusDays(3))
+                    .build());
+            written.countDown();
+            await(commit);
+        }));
+        assertThat(written.await(10, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<Void> rebuild = CompletableFuture.runAsync(() -> statsService.rebuild(userId));
+        assertThatThrownBy(() -> rebuild.get(500, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+
+        commit.countDown();
+        writer.get(10, TimeUnit.SECONDS);
+        rebuild.get(10, TimeUnit.SECONDS);
+
+        assertThat(statsService.getHistogram(userId).statusCounts().get(TaskStatus.TODO)).isEqualTo(1);
+        assertThat(statRepository.countDriftedBuckets(userId)).isZero();
+    }
+
+    @Test
+    void reconciliationRebuildsOnlyDriftedStats() {
+        UUID intact = userWithTasks();
+        UUID drifted = userWithTasks();
+        // A lost decrement, as left by a project delete job that failed between batches
+        transactionTemplate.executeWithoutResult(status ->
+                statRepository.increment(drifted, "DUE_DAY_OPEN", LocalDate.now().plusDays(1).toString(), 1));
+
+        assertThat(statRepository.findDriftedUserIds()).contains(drifted).doesNotContain(intact);
+
+        new UserTaskStatsReconciliationJob(statRepository, statsService, new SimpleMeterRegistry()).reconcile();
+
+        assertThat(statRepository.findDriftedUserIds()).doesNotContain(drifted, intact);
+        assertThat(statRepository.countDriftedBuckets(drifted)).isZero();
+        assertThat(statsService.getHistogram(drifted).statusCounts().get(TaskStatus.TODO))
+                .isEqualTo(taskRepository.countByUserIdAndStatusAndIsDeletedFalse(drifted, TaskStatus.TODO));
+    }
+
+    private UUID userWithTasks() {
+        UUID userId = createUser().getId();
+        statsService.getHistogram(userId);
+        for (int i = 0; i < 3; i++) {
+            taskService.createTask(userId, TaskCreateRequest.builder()
+                    .title("Task " + i)
+                    .dueDate(LocalDate.now().plusDays(i))
+                    .build());
+        }
+        return userId;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.taskmanagement.api.support;
+
+import com.taskmanagement.api.entity.User;
+import com.taskmanagement.api.repository.UserRepository;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.UUID;
+
+/**
+ * Base class for tests that run the full application against a real PostgreSQL
+ * schema built by the Flyway migrations. Subclasses share one application context
+ * and one database, so each test works on users of its own.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@ExtendWith(TestPostgres.Available.class)
+public abstract class PostgresIntegrationTest {
+
+    @Autowired
+    protected UserRepository userRepository;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> TestPostgres.jdbcUrl("task_management_test"));
+        registry.add("spring.datasource.username", TestPostgres::username);
+        registry.add("spring.datasource.password", TestPostgres::password);
+    }
+
+    protected User createUser() {
+        String name = "user_" + UUID.randomUUID().toString().substring(0, 8);
+        return userRepository.save(User.builder()
+                .username(name)
+                .email(name + "@example.com")
+                .firstName("Test")
+                .lastName("User")
+                .password("x")
+                .build());
+    }
+}
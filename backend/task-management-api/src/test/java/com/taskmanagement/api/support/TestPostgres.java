@@ -0,0 +1,90 @@
+package com.taskmanagement.api.support;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * The PostgreSQL server shared by all integration tests of a run: an embedded server
+ * started from the zonky binaries (same major version as docker-compose.yml), so the
+ * tests need neither Docker nor a local installation. Started on first use and
+ * stopped at JVM exit.
+ */
+public final class TestPostgres {
+
+    private static volatile Server server;
+    private static volatile String unavailable;
+
+    private TestPostgres() {
+    }
+
+    private record Server(String host, int port, String username, String password) {
+    }
+
+    private static synchronized Server server() {
+        if (server != null) return server;
+        if (unavailable != null) throw new IllegalStateException(unavailable);
+        try {
+            EmbeddedPostgres embedded = EmbeddedPostgres.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    embedded.close();
+                } catch (Exception ignored) {
+                    // JVM is exiting
+                }
+            }));
+            server = new Server("localhost", embedded.getPort(), "postgres", "postgres");
+            return server;
+        } catch (Exception | Error e) {
+            unavailable = "No PostgreSQL for integration tests: the embedded server could not be started ("
+                    + e.getMessage() + ")";
+            throw new IllegalStateException(unavailable, e);
+        }
+    }
+
+    /** JDBC URL of {@code database}, which is created on first request. */
+    public static String jdbcUrl(String database) {
+        Server s = server();
+        String url = "jdbc:postgresql://" + s.host() + ":" + s.port() + "/";
+        try (Connection connection = DriverManager.getConnection(url + "postgres", s.username(), s.password());
+             Statement statement = connection.createStatement()) {
+            ResultSet exists = statement.executeQuery(
+                    "SELECT 1 FROM pg_database WHERE datname = '" + database + "'");
+            if (!exists.next()) {
+                statement.execute("CREATE DATABASE " + database);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not create test database " + database, e);
+        }
+        return url + database;
+    }
+
+    public static String username() {
+        return server().username();
+    }
+
+    public static String password() {
+        return server().password();
+    }
+
+    /** Disables a test class instead of failing it when no PostgreSQL can be started. */
+    public static class Available implements ExecutionCondition {
+
+        @Override
+        public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+            try {
+                server();
+                return ConditionEvaluationResult.enabled("PostgreSQL available");
+            } catch (IllegalStateException e) {
+                return ConditionEvaluationResult.disabled(e.getMessage());
+            }
+        }
+    }
+}
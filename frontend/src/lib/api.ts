@@ -585,9 +585,18 @@ constructor(baseURL: string) {
       }
     },
 
-    search: async (query: string): Promise<ApiResponse<ProjectListResponse>> => {
-      // Backend expects parameter name 'query'
-      return this.request<ProjectListResponse>(`/projects/search?query=${encodeURIComponent(query)}`)
+    search: async (query: string, page = 0, size = 20): Promise<ApiResponse<ProjectListResponse>> => {
+      // Backend expects parameter name 'query' and returns a Slice ({ content, last, ... })
+      const params = new URLSearchParams({ query, page: String(page), size: String(size) })
+      const slice = (await this.request<unknown>(`/projects/search?${params.toString()}`)) as unknown as {
+        content: ProjectListResponse
+      }
+      return {
+        data: slice.content ?? [],
+        success: true,
+        message: 'OK',
+        timestamp: new Date().toISOString(),
+      }
     },
 
     getUpcomingDeadlines: async (days?: number): Promise<ApiResponse<ProjectListResponse>> => {